@@ -0,0 +1,199 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.http3;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.jetty.connector.ConnectorFactory;
+import io.bootique.resource.ResourceFactory;
+import org.eclipse.jetty.http3.server.HTTP3ServerConnectionFactory;
+import org.eclipse.jetty.quic.quiche.server.QuicheServerConnector;
+import org.eclipse.jetty.quic.quiche.server.QuicheServerQuicConfiguration;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.NetworkConnector;
+import org.eclipse.jetty.server.SecureRequestCustomizer;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.eclipse.jetty.util.resource.URLResourceFactory;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * A connector serving HTTP/3 over QUIC (UDP). Since the browsers do not attempt HTTP/3 on their own, it is normally
+ * used together with an "https" connector that advertises it via "altSvcHttp3Port".
+ *
+ * @since 4.0
+ */
+@BQConfig("HTTP/3 (QUIC) connector")
+@JsonTypeName("http3")
+public class Http3ConnectorFactory extends ConnectorFactory {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Http3ConnectorFactory.class);
+
+    private ResourceFactory keyStore;
+    private String keyStorePassword;
+    private String certificateAlias;
+    private String pemWorkDir;
+
+    public Http3ConnectorFactory() {
+        keyStorePassword = "changeit";
+    }
+
+    @BQConfigProperty("""
+            Required. A resource pointing to the keystore that has server SSL certificate. Can be a "classpath:" \
+            resource, etc.""")
+    public void setKeyStore(ResourceFactory keyStore) {
+        this.keyStore = keyStore;
+    }
+
+    @BQConfigProperty("A password to access the keystore. The default is 'changeit'.")
+    public void setKeyStorePassword(String keyStorePassword) {
+        this.keyStorePassword = keyStorePassword;
+    }
+
+    @BQConfigProperty("An optional name of the certificate in the keystore, if there's more than one certificate.")
+    public void setCertificateAlias(String certificateAlias) {
+        this.certificateAlias = certificateAlias;
+    }
+
+    @BQConfigProperty("""
+            A directory where the server certificate is exported in PEM format to be read by the native QUIC \
+            library. If not set, a temporary directory is created when the connector starts and deleted when it \
+            stops.""")
+    public void setPemWorkDir(String pemWorkDir) {
+        this.pemWorkDir = pemWorkDir;
+    }
+
+    @Override
+    public NetworkConnector createConnector(Server server) {
+
+        HttpConfiguration httpConfig = buildHttpConfiguration();
+        ConnectionFactory[] connectionFactories = buildHttpConnectionFactories(httpConfig);
+        ThreadPool threadPool = Objects.requireNonNull(server.getThreadPool());
+        QuicheServerQuicConfiguration quicConfig = new QuicheServerQuicConfiguration();
+
+        QuicheServerConnector connector = new QuicheServerConnector(
+                server,
+                threadPool,
+                // null scheduler makes the connector use the one of the Server, without managing its lifecycle
+                null,
+                buildBufferPool(server),
+                buildSslContextFactory(),
+                quicConfig,
+                connectionFactories);
+
+        if (pemWorkDir != null) {
+            quicConfig.setPemWorkDirectory(Path.of(pemWorkDir));
+        } else {
+
+            // create a temporary directory only when the connector starts, so that nothing is left behind by the
+            // connectors that are never started, and delete it when the connector stops
+            connector.addEventListener(new TempPemWorkDir(quicConfig));
+        }
+
+        return configureNetworkConnector(connector);
+    }
+
+    @Override
+    protected ConnectionFactory[] buildHttpConnectionFactories(HttpConfiguration httpConfig) {
+        // QUIC connection factory is added by the connector itself
+        return new ConnectionFactory[]{new HTTP3ServerConnectionFactory(httpConfig)};
+    }
+
+    @Override
+    protected HttpConfiguration buildHttpConfiguration() {
+        HttpConfiguration config = super.buildHttpConfiguration();
+        config.addCustomizer(new SecureRequestCustomizer());
+        return config;
+    }
+
+    protected SslContextFactory.Server buildSslContextFactory() {
+        Objects.requireNonNull(keyStore, "'keyStore' must be specified");
+
+        SslContextFactory.Server contextFactory = new SslContextFactory.Server();
+        contextFactory.setKeyStoreResource(new URLResourceFactory().newResource(keyStore.getUrl()));
+        contextFactory.setKeyStorePassword(keyStorePassword);
+        contextFactory.setCertAlias(certificateAlias);
+        return contextFactory;
+    }
+
+    private static void deleteDir(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warn("Failed to delete PEM work directory {}", dir, e);
+        }
+    }
+
+    private static class TempPemWorkDir implements LifeCycle.Listener {
+
+        private final QuicheServerQuicConfiguration quicConfig;
+        private Path dir;
+
+        TempPemWorkDir(QuicheServerQuicConfiguration quicConfig) {
+            this.quicConfig = quicConfig;
+        }
+
+        @Override
+        public void lifeCycleStarting(LifeCycle event) {
+            try {
+                dir = Files.createTempDirectory("bq-jetty-http3");
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error creating PEM work directory", e);
+            }
+
+            quicConfig.setPemWorkDirectory(dir);
+        }
+
+        @Override
+        public void lifeCycleFailure(LifeCycle event, Throwable cause) {
+            deleteDir();
+        }
+
+        @Override
+        public void lifeCycleStopped(LifeCycle event) {
+            deleteDir();
+        }
+
+        private void deleteDir() {
+            if (dir != null) {
+                Http3ConnectorFactory.deleteDir(dir);
+                dir = null;
+            }
+        }
+    }
+}
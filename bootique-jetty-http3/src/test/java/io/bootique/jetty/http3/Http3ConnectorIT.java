@@ -0,0 +1,108 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.http3;
+
+import io.bootique.jetty.JettyModule;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.client.ContentResponse;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http3.client.HTTP3Client;
+import org.eclipse.jetty.http3.client.transport.HttpClientTransportOverHTTP3;
+import org.eclipse.jetty.io.ClientConnector;
+import org.eclipse.jetty.quic.quiche.client.QuicheClientQuicConfiguration;
+import org.eclipse.jetty.quic.quiche.client.QuicheTransport;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@BQTest
+public class Http3ConnectorIT {
+
+    private static final String OUT_CONTENT = "____content_stream____";
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory();
+
+    @TempDir
+    Path clientPemDir;
+
+    private HttpClient client;
+
+    @AfterEach
+    void stopClient() throws Exception {
+        if (client != null) {
+            client.stop();
+        }
+    }
+
+    @Test
+    public void http3Connector() throws Exception {
+
+        testFactory.app("-s", "-c", "classpath:io/bootique/jetty/http3/Http3ConnectorIT.yml")
+                .autoLoadModules()
+                .module(b -> JettyModule.extend(b).addServlet(ContentServlet.class))
+                .run();
+
+        client = createHttp3Client();
+
+        ContentResponse r = client.GET("https://localhost:14003/");
+        assertEquals(200, r.getStatus());
+        assertEquals(HttpVersion.HTTP_3, r.getVersion());
+        assertEquals(OUT_CONTENT + "_true", r.getContentAsString());
+    }
+
+    private HttpClient createHttp3Client() throws Exception {
+
+        // the test certificate is self-signed
+        SslContextFactory.Client sslContextFactory = new SslContextFactory.Client(true);
+        sslContextFactory.setEndpointIdentificationAlgorithm(null);
+
+        ClientConnector clientConnector = new ClientConnector();
+        clientConnector.setSslContextFactory(sslContextFactory);
+
+        QuicheClientQuicConfiguration quicConfig = new QuicheClientQuicConfiguration(clientPemDir);
+        HTTP3Client http3Client = new HTTP3Client(quicConfig, clientConnector);
+
+        HttpClient client = new HttpClient(new HttpClientTransportOverHTTP3(http3Client, new QuicheTransport(quicConfig)));
+        client.start();
+        return client;
+    }
+
+    @WebServlet(urlPatterns = "/*")
+    static class ContentServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.getWriter().append(OUT_CONTENT + "_" + req.isSecure());
+        }
+    }
+}
@@ -20,7 +20,6 @@
 package io.bootique.jetty.instrumented;
 
 import com.codahale.metrics.MetricRegistry;
-import com.codahale.metrics.Timer;
 import io.bootique.ModuleCrate;
 import io.bootique.config.ConfigurationFactory;
 import io.bootique.BQModule;
@@ -33,6 +32,7 @@ import io.bootique.jetty.instrumented.healthcheck.JettyHealthChecks;
 import io.bootique.jetty.instrumented.request.RequestTimer;
 import io.bootique.jetty.instrumented.request.TransactionMDCItem;
 import io.bootique.jetty.instrumented.server.InstrumentedServerFactory;
+import io.bootique.jetty.instrumented.server.StaticCacheMetrics;
 import io.bootique.jetty.server.ServerFactory;
 import io.bootique.metrics.MetricNaming;
 import io.bootique.metrics.health.HealthCheckModule;
@@ -63,7 +63,8 @@ public class JettyInstrumentedModule implements BQModule {
         JettyModule.extend(binder)
                 .addMappedListener(new TypeLiteral<MappedListener<RequestTimer>>() {
                 })
-                .addRequestMDCItem(TransactionIdMDC.MDC_KEY, TransactionMDCItem.class);
+                .addRequestMDCItem(TransactionIdMDC.MDC_KEY, TransactionMDCItem.class)
+                .addContextHandlerExtender(StaticCacheMetrics.class);
 
         HealthCheckModule.extend(binder).addHealthCheckGroup(JettyHealthChecks.class);
     }
@@ -80,13 +81,19 @@ public class JettyInstrumentedModule implements BQModule {
 
     @Provides
     @Singleton
-    MappedListener<RequestTimer> provideRequestTimer(MetricRegistry metricRegistry) {
-        String name = MetricNaming.forModule(JettyInstrumentedModule.class).name("Request", "Time");
-        Timer timer = metricRegistry.timer(name);
-        RequestTimer requestTimer = new RequestTimer(timer);
+    MappedListener<RequestTimer> provideRequestTimer(
+            InstrumentedServerFactory serverFactory,
+            MetricRegistry metricRegistry) {
+        RequestTimer requestTimer = serverFactory.createRequestTimer(metricRegistry);
         return new MappedListener<>(requestTimer, REQUEST_TIMER_LISTENER_ORDER);
     }
 
+    @Provides
+    @Singleton
+    StaticCacheMetrics provideStaticCacheMetrics(MetricRegistry metricRegistry) {
+        return new StaticCacheMetrics(metricRegistry);
+    }
+
     @Provides
     @Singleton
     TransactionMDCItem provideTransactionMDCItem(TransactionIdGenerator generator) {
@@ -24,13 +24,18 @@ import com.codahale.metrics.MetricRegistry;
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
 import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import io.bootique.jetty.instrumented.request.RequestWindow;
+import io.bootique.jetty.instrumented.request.SlidingWindowRecorder;
 import io.bootique.jetty.instrumented.server.InstrumentedQueuedThreadPool;
+import io.bootique.jetty.instrumented.server.SelectorMetrics;
 import io.bootique.metrics.health.HealthCheck;
 import io.bootique.metrics.health.HealthCheckOutcome;
+import io.bootique.metrics.health.check.DurationRangeFactory;
 import io.bootique.metrics.health.check.IntRangeFactory;
 import io.bootique.metrics.health.check.PercentRangeFactory;
 import io.bootique.metrics.health.check.ValueRange;
 import io.bootique.metrics.health.check.ValueRangeCheck;
+import io.bootique.value.Duration;
 import io.bootique.value.Percent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +43,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 @BQConfig("Configures Jetty-related health checks.")
@@ -48,12 +54,43 @@ public class JettyHealthChecksFactory {
             .METRIC_NAMING
             .name("ThreadPool", "Utilization");
 
+    static final String SELECTOR_LATENCY_CHECK = JettyInstrumentedModule
+            .METRIC_NAMING
+            .name("Selector", "Latency");
+
+    static final String SELECTOR_SELECTED_KEYS_CHECK = JettyInstrumentedModule
+            .METRIC_NAMING
+            .name("Selector", "SelectedKeys");
+
+    static final String REQUEST_P99_CHECK = JettyInstrumentedModule
+            .METRIC_NAMING
+            .name("Request", "P99");
+
+    static final String REQUEST_P999_CHECK = JettyInstrumentedModule
+            .METRIC_NAMING
+            .name("Request", "P999");
+
+    static final String REQUEST_ERROR_RATIO_CHECK = JettyInstrumentedModule
+            .METRIC_NAMING
+            .name("Request", "ErrorRatio");
+
+    static final String REQUEST_RATE_CHECK = JettyInstrumentedModule
+            .METRIC_NAMING
+            .name("Request", "Rate");
+
     @Deprecated(since = "4.0.0", forRemoval = true)
     static final String QUEUED_REQUESTS_CHECK = JettyInstrumentedModule
             .METRIC_NAMING
             .name("ThreadPool", "QueuedRequests");
 
     private PercentRangeFactory poolUtilizationThresholds;
+    private IntRangeFactory selectorLatencyThresholds;
+    private IntRangeFactory selectorSelectedKeysThresholds;
+    private Duration requestWindow;
+    private DurationRangeFactory requestP99Thresholds;
+    private DurationRangeFactory requestP999Thresholds;
+    private PercentRangeFactory requestErrorRatioThresholds;
+    private IntRangeFactory requestRateThresholds;
 
     @BQConfigProperty("""
             ** Deprecated and ignored. Monitoring queued requests no longer makes sense on Jetty""")
@@ -81,14 +118,169 @@ public class JettyHealthChecksFactory {
         this.poolUtilizationThresholds = poolUtilizationThresholds;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Thresholds (in milliseconds) of the time it takes the busiest connector selector thread to get to a \
+            newly submitted task. Growing values indicate that the I/O layer, and not the worker thread pool, is \
+            the bottleneck. If not set, the check is not created.""")
+    public void setSelectorLatencyThresholds(IntRangeFactory selectorLatencyThresholds) {
+        this.selectorLatencyThresholds = selectorLatencyThresholds;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Thresholds of the average number of keys selected per loop of the busiest connector selector thread. \
+            If not set, the check is not created.""")
+    public void setSelectorSelectedKeysThresholds(IntRangeFactory selectorSelectedKeysThresholds) {
+        this.selectorSelectedKeysThresholds = selectorSelectedKeysThresholds;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            A sliding time window over which the request SLO checks (latency percentiles, error ratio and rate) are \
+            calculated. The default is 60s, the maximum is 300s. Memory used by the window counters grows with its \
+            size: about 5KB per second per CPU (up to 8 CPUs), i.e. ~2.4MB for the 60s window on an 8-CPU \
+            machine.""")
+    public void setRequestWindow(Duration requestWindow) {
+        this.requestWindow = requestWindow;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Thresholds of the 99th percentile of the request time over the request window. If not set, the check \
+            is not created.""")
+    public void setRequestP99Thresholds(DurationRangeFactory requestP99Thresholds) {
+        this.requestP99Thresholds = requestP99Thresholds;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Thresholds of the 99.9th percentile of the request time over the request window. If not set, the \
+            check is not created.""")
+    public void setRequestP999Thresholds(DurationRangeFactory requestP999Thresholds) {
+        this.requestP999Thresholds = requestP999Thresholds;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Thresholds of the ratio of requests that ended with a 5xx status over the request window. If not set, \
+            the check is not created.""")
+    public void setRequestErrorRatioThresholds(PercentRangeFactory requestErrorRatioThresholds) {
+        this.requestErrorRatioThresholds = requestErrorRatioThresholds;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Thresholds of the average number of requests per second over the request window. If not set, the check \
+            is not created.""")
+    public void setRequestRateThresholds(IntRangeFactory requestRateThresholds) {
+        this.requestRateThresholds = requestRateThresholds;
+    }
+
+    /**
+     * Returns the size of the window in seconds used by the request SLO checks.
+     *
+     * @return window size in seconds or zero if no request SLO checks are configured
+     * @since 4.0
+     */
+    public int getRequestWindowSeconds() {
+
+        if (!hasRequestChecks()) {
+            return 0;
+        }
+
+        return requestWindow != null ? (int) Math.max(1, requestWindow.getDuration().toSeconds()) : 60;
+    }
+
+    /**
+     * Creates a request window view over the provided recorder, if any of the request SLO checks are configured.
+     *
+     * @param recorder a recorder that includes the window of {@link #getRequestWindowSeconds()} size
+     * @return a new request window registered with the metric registry or null if no request SLO checks are configured
+     * @since 4.0
+     */
+    public RequestWindow createRequestWindow(SlidingWindowRecorder recorder, MetricRegistry registry) {
+        int seconds = getRequestWindowSeconds();
+        return seconds > 0 ? new RequestWindow(recorder, seconds).register(registry) : null;
+    }
+
+    /**
+     * Returns whether any of the selector checks are configured, and hence the connector selectors need to be
+     * monitored.
+     *
+     * @since 4.0
+     */
+    public boolean hasSelectorChecks() {
+        return selectorLatencyThresholds != null || selectorSelectedKeysThresholds != null;
+    }
+
+    private boolean hasRequestChecks() {
+        return requestP99Thresholds != null
+                || requestP999Thresholds != null
+                || requestErrorRatioThresholds != null
+                || requestRateThresholds != null;
+    }
+
     public JettyHealthChecks createHealthCheckGroup(MetricRegistry registry) {
         return new JettyHealthChecks(createHealthChecksMap(registry));
     }
 
     protected Map<String, HealthCheck> createHealthChecksMap(MetricRegistry registry) {
-        Map<String, HealthCheck> checks = new HashMap<>(3);
+        Map<String, HealthCheck> checks = new HashMap<>(9);
         checks.put(POOL_UTILIZATION_CHECK, createThreadPoolUtilizationCheck(registry));
 
+        if (selectorLatencyThresholds != null) {
+            checks.put(SELECTOR_LATENCY_CHECK, new ValueRangeCheck<>(
+                    selectorLatencyThresholds.createRange(),
+                    maxFromGauges(registry, SelectorMetrics::isLatencyMetric)));
+        }
+
+        if (selectorSelectedKeysThresholds != null) {
+            checks.put(SELECTOR_SELECTED_KEYS_CHECK, new ValueRangeCheck<>(
+                    selectorSelectedKeysThresholds.createRange(),
+                    maxFromGauges(registry, SelectorMetrics::isSelectedKeysMetric)));
+        }
+
+        if (requestP99Thresholds != null) {
+            checks.put(REQUEST_P99_CHECK, new ValueRangeCheck<>(
+                    requestP99Thresholds.createRange(),
+                    valueFromGauge(registry, RequestWindow.p99Metric())));
+        }
+
+        if (requestP999Thresholds != null) {
+            checks.put(REQUEST_P999_CHECK, new ValueRangeCheck<>(
+                    requestP999Thresholds.createRange(),
+                    valueFromGauge(registry, RequestWindow.p999Metric())));
+        }
+
+        if (requestErrorRatioThresholds != null) {
+            Supplier<Double> deferredGauge = valueFromGauge(registry, RequestWindow.errorRatioMetric());
+            checks.put(REQUEST_ERROR_RATIO_CHECK, new ValueRangeCheck<>(
+                    requestErrorRatioThresholds.createRange(),
+                    () -> new Percent(deferredGauge.get())));
+        }
+
+        if (requestRateThresholds != null) {
+            Supplier<Double> deferredGauge = valueFromGauge(registry, RequestWindow.rateMetric());
+            checks.put(REQUEST_RATE_CHECK, new ValueRangeCheck<>(
+                    requestRateThresholds.createRange(),
+                    () -> (int) Math.round(deferredGauge.get())));
+        }
+
         // this check is deprecated and will always return success
         checks.put(QUEUED_REQUESTS_CHECK, HealthCheckOutcome::ok);
 
@@ -102,6 +294,20 @@ public class JettyHealthChecksFactory {
         return new ValueRangeCheck<>(range, deferredPctGauge);
     }
 
+    // there's a set of selector gauges per connector, and the check reports the worst of them
+    private Supplier<Integer> maxFromGauges(MetricRegistry registry, Predicate<String> namePredicate) {
+        return () -> {
+            double max = 0;
+            for (Gauge<?> g : registry.getGauges((n, m) -> namePredicate.test(n)).values()) {
+                if (g.getValue() instanceof Number n) {
+                    max = Math.max(max, n.doubleValue());
+                }
+            }
+
+            return (int) Math.ceil(max);
+        };
+    }
+
     private <T> Supplier<T> valueFromGauge(MetricRegistry registry, String name) {
 
         // using deferred gauge resolving to allow health checks against the system with misconfigured metrics,
@@ -0,0 +1,151 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.request;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import org.eclipse.jetty.ee10.servlet.ServletContextRequest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records request timers and response status meters per endpoint. An endpoint is either a servlet or a servlet URL
+ * pattern. The number of endpoints is capped, and the requests to the endpoints over the cap are recorded under a
+ * shared "_other" endpoint. Metrics for each endpoint are created once, so recording a request doesn't create any
+ * metric names or other objects.
+ *
+ * @since 4.0
+ */
+public class EndpointMetrics {
+
+    static final String OTHER_ENDPOINT = "_other";
+    static final String UNMATCHED_ENDPOINT = "_unmatched";
+
+    private static final String[] STATUS_CLASSES = {"1xx", "2xx", "3xx", "4xx", "5xx"};
+
+    private final MetricRegistry metricRegistry;
+    private final EndpointKey key;
+    private final int maxEndpoints;
+    private final ConcurrentMap<String, Endpoint> endpoints;
+
+    private volatile Endpoint otherEndpoint;
+
+    public EndpointMetrics(MetricRegistry metricRegistry, EndpointKey key, int maxEndpoints) {
+        this.metricRegistry = metricRegistry;
+        this.key = key;
+        this.maxEndpoints = maxEndpoints;
+        this.endpoints = new ConcurrentHashMap<>();
+    }
+
+    public static String timerMetric(String endpoint) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("Endpoint", endpoint + ".Time");
+    }
+
+    /**
+     * @param statusClass response status class, i.e. "1xx", "2xx", "3xx", "4xx" or "5xx"
+     */
+    public static String statusMeterMetric(String endpoint, String statusClass) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("Endpoint", endpoint + ".Status." + statusClass);
+    }
+
+    public void record(ServletRequest request, long timeNanos) {
+        Endpoint endpoint = endpoint(endpointName(request));
+
+        endpoint.timer.update(timeNanos, TimeUnit.NANOSECONDS);
+
+        int statusClass = responseStatus(request) / 100;
+        if (statusClass >= 1 && statusClass <= STATUS_CLASSES.length) {
+            endpoint.statusMeters[statusClass - 1].mark();
+        }
+    }
+
+    protected String endpointName(ServletRequest request) {
+
+        HttpServletMapping mapping = request instanceof HttpServletRequest hsr ? hsr.getHttpServletMapping() : null;
+        if (mapping == null) {
+            return UNMATCHED_ENDPOINT;
+        }
+
+        String name = switch (key) {
+            case servlet -> mapping.getServletName();
+            case urlPattern -> mapping.getPattern();
+        };
+
+        return name != null && !name.isEmpty() ? name : UNMATCHED_ENDPOINT;
+    }
+
+    protected int responseStatus(ServletRequest request) {
+        ServletContextRequest contextRequest = ServletContextRequest.getServletContextRequest(request);
+        return contextRequest != null ? contextRequest.getServletContextResponse().getStatus() : 0;
+    }
+
+    private Endpoint endpoint(String name) {
+
+        Endpoint endpoint = endpoints.get(name);
+        if (endpoint != null) {
+            return endpoint;
+        }
+
+        // the size check is not atomic, so the cap may be exceeded by a few endpoints under concurrent load
+        return endpoints.size() < maxEndpoints
+                ? endpoints.computeIfAbsent(name, this::createEndpoint)
+                : otherEndpoint();
+    }
+
+    private Endpoint otherEndpoint() {
+        Endpoint endpoint = otherEndpoint;
+        if (endpoint == null) {
+            synchronized (this) {
+                endpoint = otherEndpoint;
+                if (endpoint == null) {
+                    endpoint = otherEndpoint = createEndpoint(OTHER_ENDPOINT);
+                }
+            }
+        }
+
+        return endpoint;
+    }
+
+    private Endpoint createEndpoint(String name) {
+        Meter[] statusMeters = new Meter[STATUS_CLASSES.length];
+        for (int i = 0; i < statusMeters.length; i++) {
+            statusMeters[i] = metricRegistry.meter(statusMeterMetric(name, STATUS_CLASSES[i]));
+        }
+
+        return new Endpoint(metricRegistry.timer(timerMetric(name)), statusMeters);
+    }
+
+    private static class Endpoint {
+
+        final Timer timer;
+        final Meter[] statusMeters;
+
+        Endpoint(Timer timer, Meter[] statusMeters) {
+            this.timer = timer;
+            this.statusMeters = statusMeters;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.request;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+
+/**
+ * @since 4.0
+ */
+@BQConfig("Configures per-endpoint request metrics")
+public class EndpointMetricsFactory {
+
+    private EndpointKey key;
+    private int maxEndpoints;
+
+    public EndpointMetricsFactory() {
+        this.key = EndpointKey.servlet;
+        this.maxEndpoints = 100;
+    }
+
+    @BQConfigProperty("""
+            How requests are grouped into endpoints. Either "servlet" (by the servlet name) or "urlPattern" \
+            (by the matched servlet URL pattern). The default is "servlet".""")
+    public void setKey(EndpointKey key) {
+        this.key = key;
+    }
+
+    @BQConfigProperty("""
+            Max number of endpoints with their own metrics. Requests to the endpoints above this number are \
+            reported under the "_other" endpoint. The default is 100.""")
+    public void setMaxEndpoints(int maxEndpoints) {
+        this.maxEndpoints = maxEndpoints;
+    }
+
+    public EndpointMetrics createEndpointMetrics(MetricRegistry metricRegistry) {
+        return new EndpointMetrics(metricRegistry, key != null ? key : EndpointKey.servlet, maxEndpoints);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.request;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.EventsHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of each request at the Jetty handler level, i.e. outside the servlet container. All phases except
+ * "handling" are measured from the request arrival time tracked by Jetty:
+ *
+ * <ul>
+ *     <li>"QueueWait" - from the request arrival to the handler dispatch. Includes parsing of the request headers and
+ *     waiting for a thread in the pool queue</li>
+ *     <li>"Handling" - the time spent in the synchronous handler call, i.e. in the filters and servlets</li>
+ *     <li>"FirstByte" - from the request arrival to the response commit</li>
+ *     <li>"Completion" - from the request arrival to the request completion, including writing of the response</li>
+ * </ul>
+ *
+ * <p>High "QueueWait" with normal "Handling" points to thread starvation, and not to the application code.</p>
+ *
+ * @since 4.0
+ */
+// Similar to RequestMDCManager, using the Jetty EventsHandler instead of the servlet listener to cover the widest
+// possible request scope
+public class RequestPhaseTimer extends EventsHandler {
+
+    // "onBeforeHandling" and "onAfterHandling" are called around the synchronous "handle" call, i.e. on the same
+    // thread, so the handling start time can be kept in a thread local without storing it in the request
+    private static final ThreadLocal<long[]> HANDLING_STARTED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Timer queueWaitTimer;
+    private final Timer handlingTimer;
+    private final Timer firstByteTimer;
+    private final Timer completionTimer;
+
+    public RequestPhaseTimer(Handler handler, MetricRegistry metricRegistry) {
+        super(handler);
+        this.queueWaitTimer = metricRegistry.timer(queueWaitMetric());
+        this.handlingTimer = metricRegistry.timer(handlingMetric());
+        this.firstByteTimer = metricRegistry.timer(firstByteMetric());
+        this.completionTimer = metricRegistry.timer(completionMetric());
+    }
+
+    public static String queueWaitMetric() {
+        return metricName("QueueWait");
+    }
+
+    public static String handlingMetric() {
+        return metricName("Handling");
+    }
+
+    public static String firstByteMetric() {
+        return metricName("FirstByte");
+    }
+
+    public static String completionMetric() {
+        return metricName("Completion");
+    }
+
+    private static String metricName(String phase) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("Request", phase + ".Time");
+    }
+
+    @Override
+    protected void onBeforeHandling(Request request) {
+        long now = System.nanoTime();
+        HANDLING_STARTED.get()[0] = now;
+        update(queueWaitTimer, now - request.getBeginNanoTime());
+    }
+
+    @Override
+    protected void onAfterHandling(Request request, boolean handled, Throwable failure) {
+        update(handlingTimer, System.nanoTime() - HANDLING_STARTED.get()[0]);
+    }
+
+    @Override
+    protected void onResponseBegin(Request request, int status, HttpFields headers) {
+        update(firstByteTimer, System.nanoTime() - request.getBeginNanoTime());
+    }
+
+    @Override
+    protected void onComplete(Request request, int status, HttpFields headers, Throwable failure) {
+        update(completionTimer, System.nanoTime() - request.getBeginNanoTime());
+    }
+
+    private static void update(Timer timer, long nanos) {
+
+        // guarding against the clock skew between the threads
+        if (nanos >= 0) {
+            timer.update(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
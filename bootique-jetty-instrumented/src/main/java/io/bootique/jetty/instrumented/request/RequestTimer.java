@@ -16,7 +16,6 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-
 package io.bootique.jetty.instrumented.request;
 
 import com.codahale.metrics.Timer;
@@ -24,34 +23,73 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletRequestEvent;
 import jakarta.servlet.ServletRequestListener;
 import jakarta.servlet.http.HttpServletRequest;
+import org.eclipse.jetty.ee10.servlet.ServletContextRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Enumeration;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Provides timing metrics for request execution, optionally logging of request start and finish marks.
+ * Provides timing metrics for request execution, optionally logging of request start and finish marks. Requests are
+ * timed by the Codahale request Timer and / or recorded in a {@link SlidingWindowRecorder}. If {@link EndpointMetrics}
+ * are provided, the requests are also timed per endpoint. Created via {@link #builder()}.
  */
 public class RequestTimer implements ServletRequestListener {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RequestTimer.class);
     private static final String TIMER_KEY = RequestTimer.class.getName();
 
-    private Timer requestTimer;
+    private final Timer requestTimer;
+    private final EndpointMetrics endpointMetrics;
+    private final SlidingWindowRecorder recorder;
+    private final boolean lowOverhead;
+    private final boolean logStarted;
+    private final boolean logFinished;
+    private final int logSampling;
 
+    /**
+     * @deprecated use {@link #builder()} instead.
+     */
+    @Deprecated(since = "4.0", forRemoval = true)
     public RequestTimer(Timer requestTimer) {
-        this.requestTimer = requestTimer;
+        this(builder().requestTimer(requestTimer));
+    }
+
+    protected RequestTimer(Builder builder) {
+        this.requestTimer = builder.requestTimer;
+        this.endpointMetrics = builder.endpointMetrics;
+        this.recorder = builder.recorder;
+
+        // without a Timer there's no timer context to store in the request
+        this.lowOverhead = builder.lowOverhead || builder.requestTimer == null;
+        this.logStarted = builder.logStarted;
+        this.logFinished = builder.logFinished;
+        this.logSampling = Math.max(1, builder.logSampling);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     @Override
     public void requestInitialized(ServletRequestEvent sre) {
-        Timer.Context requestTimerContext = requestTimer.time();
-        sre.getServletRequest().setAttribute(TIMER_KEY, requestTimerContext);
-        LOGGER.info("started");
+
+        ServletRequest request = sre.getServletRequest();
+
+        if (!lowOverhead) {
+            request.setAttribute(TIMER_KEY, requestTimer.time());
+        }
+
+        if (logStarted && isLogged(request)) {
+            LOGGER.info("started");
+        }
 
         if (LOGGER.isDebugEnabled()) {
-            ServletRequest request = sre.getServletRequest();
             if (request instanceof HttpServletRequest) {
                 HttpServletRequest hsr = (HttpServletRequest) request;
                 Enumeration<String> names = hsr.getHeaderNames();
@@ -73,9 +111,128 @@ public class RequestTimer implements ServletRequestListener {
         // note that we are skipping request parameter/URL/etc. logging...
         // This is done by Slf4jRequestLog. Here we only log timing
 
-        Timer.Context requestTimerContext = (Timer.Context) sre.getServletRequest().getAttribute(TIMER_KEY);
-        Objects.requireNonNull(requestTimerContext, "No timer found at the end of request");
-        long timeNanos = requestTimerContext.stop();
-        LOGGER.info("finished in {} ms", timeNanos / 1000000);
+        ServletRequest request = sre.getServletRequest();
+        long timeNanos;
+
+        if (lowOverhead) {
+            timeNanos = System.nanoTime() - beginNanoTime(request);
+            if (requestTimer != null) {
+                requestTimer.update(timeNanos, TimeUnit.NANOSECONDS);
+            }
+        } else {
+            Timer.Context requestTimerContext = (Timer.Context) request.getAttribute(TIMER_KEY);
+            Objects.requireNonNull(requestTimerContext, "No timer found at the end of request");
+            timeNanos = requestTimerContext.stop();
+        }
+
+        if (recorder != null) {
+            recorder.record(timeNanos, responseStatus(request) >= 500);
+        }
+
+        if (endpointMetrics != null) {
+            endpointMetrics.record(request, timeNanos);
+        }
+
+        if (logFinished && isLogged(request)) {
+            LOGGER.info("finished in {} ms", timeNanos / 1000000);
+        }
+    }
+
+    private boolean isLogged(ServletRequest request) {
+
+        if (!LOGGER.isInfoEnabled()) {
+            return false;
+        }
+
+        if (logSampling <= 1) {
+            return true;
+        }
+
+        // a decision based on the request arrival time is stable between the start and the finish of the request,
+        // and doesn't require storing any state in the request
+        long hash = beginNanoTime(request) * 0x9E3779B97F4A7C15L;
+        return Math.floorMod(hash ^ (hash >>> 32), logSampling) == 0;
+    }
+
+    private static int responseStatus(ServletRequest request) {
+        ServletContextRequest contextRequest = ServletContextRequest.getServletContextRequest(request);
+        return contextRequest != null ? contextRequest.getServletContextResponse().getStatus() : 0;
+    }
+
+    private static long beginNanoTime(ServletRequest request) {
+        ServletContextRequest contextRequest = ServletContextRequest.getServletContextRequest(request);
+        return contextRequest != null ? contextRequest.getBeginNanoTime() : System.nanoTime();
+    }
+
+    /**
+     * @since 4.0
+     */
+    public static class Builder {
+
+        private Timer requestTimer;
+        private EndpointMetrics endpointMetrics;
+        private SlidingWindowRecorder recorder;
+        private boolean lowOverhead;
+        private boolean logStarted;
+        private boolean logFinished;
+        private int logSampling;
+
+        protected Builder() {
+            this.logStarted = true;
+            this.logFinished = true;
+            this.logSampling = 1;
+        }
+
+        /**
+         * Sets an optional Codahale timer updated with each request time.
+         */
+        public Builder requestTimer(Timer requestTimer) {
+            this.requestTimer = requestTimer;
+            return this;
+        }
+
+        public Builder endpointMetrics(EndpointMetrics endpointMetrics) {
+            this.endpointMetrics = endpointMetrics;
+            return this;
+        }
+
+        /**
+         * Sets an optional lock-free recorder of the request times and server errors over the sliding windows.
+         */
+        public Builder recorder(SlidingWindowRecorder recorder) {
+            this.recorder = recorder;
+            return this;
+        }
+
+        /**
+         * If true, the request time is calculated from the Jetty request arrival time, without storing a timer
+         * context in the request. Implied if there's no request timer.
+         */
+        public Builder lowOverhead(boolean lowOverhead) {
+            this.lowOverhead = lowOverhead;
+            return this;
+        }
+
+        public Builder logStarted(boolean logStarted) {
+            this.logStarted = logStarted;
+            return this;
+        }
+
+        public Builder logFinished(boolean logFinished) {
+            this.logFinished = logFinished;
+            return this;
+        }
+
+        /**
+         * Log one in this many requests.
+         */
+        public Builder logSampling(int logSampling) {
+            this.logSampling = logSampling;
+            return this;
+        }
+
+        public RequestTimer build() {
+            return new RequestTimer(this);
+        }
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.request;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+
+import java.util.stream.IntStream;
+
+/**
+ * @since 4.0
+ */
+@BQConfig("Configures request timing and logging")
+public class RequestTimerFactory {
+
+    private boolean lowOverhead;
+    private boolean slidingWindows;
+    private boolean logStarted;
+    private boolean logFinished;
+    private int logSampling;
+
+    public RequestTimerFactory() {
+        this.logStarted = true;
+        this.logFinished = true;
+        this.logSampling = 1;
+    }
+
+    @BQConfigProperty("""
+            If true, the request time is calculated from the request arrival time tracked by Jetty, and no per-request \
+            timer objects are created. The time includes the time spent waiting in the thread pool queue. The \
+            default is false.""")
+    public void setLowOverhead(boolean lowOverhead) {
+        this.lowOverhead = lowOverhead;
+    }
+
+    @BQConfigProperty("""
+            If true, request times are recorded by a lock-free recorder instead of the 'Request.Time' timer, which \
+            is not registered in this mode. The recorder reports the request rate and the request time percentiles \
+            over the last 1s, 10s and 60s as 'Request.Last<N>s.*' gauges. Request times are calculated from the request arrival time tracked by \
+            Jetty, same as in the 'lowOverhead' mode. The recorder counters take about 5KB per second of the \
+            longest window per CPU (up to 8 CPUs), i.e. ~2.4MB on an 8-CPU machine. The default is false.""")
+    public void setSlidingWindows(boolean slidingWindows) {
+        this.slidingWindows = slidingWindows;
+    }
+
+    @BQConfigProperty("Whether to log a 'started' line at the start of each request. The default is true.")
+    public void setLogStarted(boolean logStarted) {
+        this.logStarted = logStarted;
+    }
+
+    @BQConfigProperty("Whether to log a 'finished in N ms' line at the end of each request. The default is true.")
+    public void setLogFinished(boolean logFinished) {
+        this.logFinished = logFinished;
+    }
+
+    @BQConfigProperty("""
+            If greater than 1, only one in this many requests is logged. Both start and finish lines of a \
+            request are either logged or skipped together. Timing metrics still include every request. The \
+            default is 1, i.e. every request is logged.""")
+    public void setLogSampling(int logSampling) {
+        this.logSampling = logSampling;
+    }
+
+    public boolean isSlidingWindows() {
+        return slidingWindows;
+    }
+
+    /**
+     * Creates a recorder of the request times over sliding windows. The recorder is created if the "slidingWindows"
+     * mode is on, or if an extra window is requested (e.g. by the request SLO checks), so that a single recorder
+     * serves both.
+     *
+     * @param extraWindowSeconds an additional window size or zero if no extra window is needed
+     * @return a new recorder or null if no windows are required
+     */
+    public SlidingWindowRecorder createRecorder(MetricRegistry metricRegistry, int extraWindowSeconds) {
+
+        if (slidingWindows) {
+            SlidingWindowRecorder recorder = extraWindowSeconds > 0
+                    ? new SlidingWindowRecorder(IntStream.concat(
+                            IntStream.of(SlidingWindowRecorder.DEFAULT_WINDOWS),
+                            IntStream.of(extraWindowSeconds)).toArray())
+                    : new SlidingWindowRecorder();
+
+            return recorder.register(metricRegistry);
+        }
+
+        // the windows only used by the health checks are not reported as gauges
+        return extraWindowSeconds > 0 ? new SlidingWindowRecorder(extraWindowSeconds) : null;
+    }
+
+    /**
+     * @param recorder an optional recorder created via {@link #createRecorder(MetricRegistry, int)}
+     */
+    public RequestTimer createRequestTimer(
+            MetricRegistry metricRegistry,
+            EndpointMetrics endpointMetrics,
+            SlidingWindowRecorder recorder) {
+
+        // in the "slidingWindows" mode, the recorder gauges replace the timer
+        Timer timer = slidingWindows
+                ? null
+                : metricRegistry.timer(JettyInstrumentedModule.METRIC_NAMING.name("Request", "Time"));
+
+        return RequestTimer.builder()
+                .requestTimer(timer)
+                .endpointMetrics(endpointMetrics)
+                .recorder(recorder)
+                .lowOverhead(lowOverhead)
+                .logStarted(logStarted)
+                .logFinished(logFinished)
+                .logSampling(logSampling)
+                .build();
+    }
+}
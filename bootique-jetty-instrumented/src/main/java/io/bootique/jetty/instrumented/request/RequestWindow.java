@@ -0,0 +1,106 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.request;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import io.bootique.value.Duration;
+
+import java.util.Objects;
+
+/**
+ * Reports request latency, rate and server error ratio over a sliding time window. Unlike the exponentially decaying
+ * request timer, the values drop out of the window once it is passed, so they reflect the current state of the server
+ * and are suitable for SLO health checks. The data is taken from a {@link SlidingWindowRecorder} that has the window
+ * of this size, so the window includes only the complete seconds.
+ *
+ * @since 4.0
+ */
+public class RequestWindow {
+
+    private final SlidingWindowRecorder recorder;
+    private final int windowSeconds;
+
+    public RequestWindow(SlidingWindowRecorder recorder, int windowSeconds) {
+        this.recorder = Objects.requireNonNull(recorder);
+        this.windowSeconds = windowSeconds;
+
+        // fail early if the recorder doesn't track this window
+        recorder.snapshot(windowSeconds);
+    }
+
+    public static String p99Metric() {
+        return metricName("P99");
+    }
+
+    public static String p999Metric() {
+        return metricName("P999");
+    }
+
+    public static String rateMetric() {
+        return metricName("Rate");
+    }
+
+    public static String errorRatioMetric() {
+        return metricName("ErrorRatio");
+    }
+
+    private static String metricName(String metric) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("Request", "Window." + metric);
+    }
+
+    public RequestWindow register(MetricRegistry metricRegistry) {
+        metricRegistry.register(p99Metric(), (Gauge<Duration>) this::getP99);
+        metricRegistry.register(p999Metric(), (Gauge<Duration>) this::getP999);
+        metricRegistry.register(rateMetric(), (Gauge<Double>) this::getRate);
+        metricRegistry.register(errorRatioMetric(), (Gauge<Double>) this::getErrorRatio);
+        return this;
+    }
+
+    public Duration getP99() {
+        return toDuration(snapshot().getValue(0.99));
+    }
+
+    public Duration getP999() {
+        return toDuration(snapshot().getValue(0.999));
+    }
+
+    /**
+     * Returns an average number of requests per second over the window.
+     */
+    public double getRate() {
+        return snapshot().getRate();
+    }
+
+    /**
+     * Returns a ratio of requests that ended with a 5xx status over the window, or zero if there were no requests.
+     */
+    public double getErrorRatio() {
+        return snapshot().getErrorRatio();
+    }
+
+    private SlidingWindowRecorder.WindowSnapshot snapshot() {
+        return recorder.snapshot(windowSeconds);
+    }
+
+    private static Duration toDuration(long nanos) {
+        return new Duration(nanos / 1_000_000);
+    }
+}
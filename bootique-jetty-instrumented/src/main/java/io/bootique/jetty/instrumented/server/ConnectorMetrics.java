@@ -0,0 +1,219 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import io.bootique.jetty.server.ConnectorHolder;
+import org.eclipse.jetty.io.Connection;
+import org.eclipse.jetty.io.EndPoint;
+import org.eclipse.jetty.io.IdleTimeout;
+import org.eclipse.jetty.io.ssl.SslConnection;
+import org.eclipse.jetty.io.ssl.SslHandshakeListener;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+
+import javax.net.ssl.SSLEngine;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects network metrics of a single connector. Installed as a connector bean, so that Jetty would notify it of the
+ * connection and TLS handshake events. Metrics are named after the connector protocol and port (e.g.
+ * "Connector.https.8443.Connections.Open"), or the socket path for Unix domain socket connectors (e.g.
+ * "Connector.http.unix.var_run_app_sock.Connections.Open"). The metrics are registered when the connector is started,
+ * so that the dynamically assigned ports are known.
+ *
+ * @since 4.0
+ */
+public class ConnectorMetrics extends AbstractLifeCycle implements Connection.Listener, SslHandshakeListener {
+
+    private final Connector connector;
+    private final MetricRegistry metricRegistry;
+    private final Map<SSLEngine, Long> handshakesInProgress;
+
+    private volatile Counter openConnections;
+    private Histogram connectionDuration;
+    private Meter bytesIn;
+    private Meter bytesOut;
+    private Histogram messagesIn;
+    private Meter idleTimeouts;
+    private Timer handshakeTime;
+
+    public ConnectorMetrics(Connector connector, MetricRegistry metricRegistry) {
+        this.connector = connector;
+        this.metricRegistry = metricRegistry;
+        this.handshakesInProgress = new ConcurrentHashMap<>();
+    }
+
+    public static String connectorName(Connector connector) {
+        ConnectorHolder holder = new ConnectorHolder(connector);
+
+        Path unixSocketPath = holder.getUnixSocketPath();
+        if (unixSocketPath != null) {
+            return holder.getProtocol() + ".unix." + unixSocketName(unixSocketPath);
+        }
+
+        int port = holder.getPort();
+        return holder.getProtocol() + "." + (port >= 0 ? String.valueOf(port) : "local");
+    }
+
+    // the socket path is made a single metric name segment, so that the names are unique per socket
+    private static String unixSocketName(Path socketPath) {
+        String path = socketPath.toAbsolutePath().toString();
+        return path.replaceAll("[^A-Za-z0-9_-]+", "_").replaceAll("^_+", "");
+    }
+
+    public static String openConnectionsMetric(String connectorName) {
+        return metricName(connectorName, "Connections.Open");
+    }
+
+    public static String connectionDurationMetric(String connectorName) {
+        return metricName(connectorName, "Connections.Duration");
+    }
+
+    public static String bytesInMetric(String connectorName) {
+        return metricName(connectorName, "BytesIn");
+    }
+
+    public static String bytesOutMetric(String connectorName) {
+        return metricName(connectorName, "BytesOut");
+    }
+
+    public static String messagesInMetric(String connectorName) {
+        return metricName(connectorName, "Connections.MessagesIn");
+    }
+
+    public static String idleTimeoutsMetric(String connectorName) {
+        return metricName(connectorName, "Connections.IdleTimeouts");
+    }
+
+    public static String handshakeTimeMetric(String connectorName) {
+        return metricName(connectorName, "Ssl.HandshakeTime");
+    }
+
+    private static String metricName(String connectorName, String metric) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("Connector", connectorName + "." + metric);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+
+        // the network connector is already bound at this point, so the actual port is known
+        String name = connectorName(connector);
+
+        connectionDuration = metricRegistry.histogram(connectionDurationMetric(name));
+        bytesIn = metricRegistry.meter(bytesInMetric(name));
+        bytesOut = metricRegistry.meter(bytesOutMetric(name));
+        messagesIn = metricRegistry.histogram(messagesInMetric(name));
+        idleTimeouts = metricRegistry.meter(idleTimeoutsMetric(name));
+        handshakeTime = metricRegistry.timer(handshakeTimeMetric(name));
+
+        // the field used as a "metrics are ready" flag is assigned last
+        openConnections = metricRegistry.counter(openConnectionsMetric(name));
+
+        super.doStart();
+    }
+
+    @Override
+    public void onOpened(Connection connection) {
+
+        if (openConnections == null) {
+            return;
+        }
+
+        if (connection instanceof SslConnection sslConnection) {
+            handshakesInProgress.put(sslConnection.getSSLEngine(), System.nanoTime());
+        }
+
+        if (isNetworkConnection(connection)) {
+            openConnections.inc();
+        }
+    }
+
+    @Override
+    public void onClosed(Connection connection) {
+
+        if (openConnections == null) {
+            return;
+        }
+
+        if (connection instanceof SslConnection sslConnection) {
+            handshakesInProgress.remove(sslConnection.getSSLEngine());
+        }
+
+        // the number of requests is tracked by the protocol connections, that may sit on top of the TLS connection
+        long messages = connection.getMessagesIn();
+        if (messages >= 0) {
+            messagesIn.update(messages);
+        }
+
+        if (isNetworkConnection(connection)) {
+            openConnections.dec();
+            connectionDuration.update(System.currentTimeMillis() - connection.getCreatedTimeStamp());
+
+            // byte rates are attributed to the moment the connection is closed
+            markIfPositive(bytesIn, connection.getBytesIn());
+            markIfPositive(bytesOut, connection.getBytesOut());
+
+            if (isIdleExpired(connection.getEndPoint())) {
+                idleTimeouts.mark();
+            }
+        }
+    }
+
+    @Override
+    public void handshakeSucceeded(Event event) {
+        Long t0 = handshakesInProgress.remove(event.getSSLEngine());
+        if (t0 != null && handshakeTime != null) {
+            handshakeTime.update(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void handshakeFailed(Event event, Throwable failure) {
+        handshakesInProgress.remove(event.getSSLEngine());
+    }
+
+    // the connections over the decrypted TLS endpoints share the network connection with the TLS connection, so
+    // must not be counted twice
+    private static boolean isNetworkConnection(Connection connection) {
+        return !(connection.getEndPoint() instanceof EndPoint.Wrapper);
+    }
+
+    // Jetty doesn't report why a connection was closed. Assume the idle timeout if it was idle for at least as long
+    private static boolean isIdleExpired(EndPoint endPoint) {
+        long idleTimeout = endPoint.getIdleTimeout();
+        return idleTimeout > 0
+                && endPoint instanceof IdleTimeout it
+                && it.getIdleFor() >= idleTimeout;
+    }
+
+    private static void markIfPositive(Meter meter, long value) {
+        if (value > 0) {
+            meter.mark(value);
+        }
+    }
+}
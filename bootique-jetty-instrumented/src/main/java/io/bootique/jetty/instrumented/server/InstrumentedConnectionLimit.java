@@ -0,0 +1,52 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import org.eclipse.jetty.server.NetworkConnectionLimit;
+import org.eclipse.jetty.server.Server;
+
+/**
+ * @since 4.0
+ */
+public class InstrumentedConnectionLimit extends NetworkConnectionLimit {
+
+    private static final String connectionsMetric = JettyInstrumentedModule
+            .METRIC_NAMING
+            .name("Connections", "Open");
+
+    private final MetricRegistry metricRegistry;
+
+    public InstrumentedConnectionLimit(int maxConnections, Server server, MetricRegistry metricRegistry) {
+        super(maxConnections, server);
+        this.metricRegistry = metricRegistry;
+    }
+
+    public static String connectionsMetric() {
+        return connectionsMetric;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        metricRegistry.register(connectionsMetric(), (Gauge<Integer>) this::getNetworkConnectionCount);
+    }
+}
@@ -22,9 +22,11 @@ package io.bootique.jetty.instrumented.server;
 import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import io.bootique.jetty.server.VirtualThreadsExecutor;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
 
 public class InstrumentedQueuedThreadPool extends QueuedThreadPool {
 
@@ -43,6 +45,7 @@ public class InstrumentedQueuedThreadPool extends QueuedThreadPool {
             .name("ThreadPool", "Utilization");
 
     private final MetricRegistry metricRegistry;
+    private VirtualThreadsExecutor virtualThreads;
 
     public InstrumentedQueuedThreadPool(
             int maxThreads,
@@ -135,15 +138,40 @@ public class InstrumentedQueuedThreadPool extends QueuedThreadPool {
         return utilization;
     }
 
+    /**
+     * @since 4.0
+     */
+    @Override
+    public void setVirtualThreadsExecutor(Executor executor) {
+        super.setVirtualThreadsExecutor(executor);
+        this.virtualThreads = executor instanceof VirtualThreadsExecutor vte ? vte : null;
+    }
+
     @Override
     protected void doStart() throws Exception {
 
         super.doStart();
-        metricRegistry.register(sizeMetric(), (Gauge<Integer>) this::getThreads);
+        metricRegistry.register(sizeMetric(), (Gauge<Integer>) this::getSize);
 
         // this metric is deprecated and will always return zero until removed in the future
         metricRegistry.register(queuedRequestsMetric(), (Gauge<Integer>) this::getQueueSizeZero);
-        metricRegistry.register(utilizationMetric(), (Gauge<Double>) this::getUtilizationRate);
+        metricRegistry.register(utilizationMetric(), (Gauge<Double>) this::getUtilization);
+    }
+
+    // with virtual threads, requests are processed outside the platform pool, so include the running virtual threads
+    private int getSize() {
+        return virtualThreads != null ? getThreads() + virtualThreads.getActiveThreads() : getThreads();
+    }
+
+    // with virtual threads, utilization is measured against the virtual threads limit. With no limit, there's no
+    // saturation point, so the utilization is always zero
+    private double getUtilization() {
+        if (virtualThreads == null) {
+            return getUtilizationRate();
+        }
+
+        int max = virtualThreads.getMaxThreads();
+        return max > 0 ? virtualThreads.getActiveThreads() / (double) max : 0.;
     }
 
     // Always return zero, as we are no longer measuring the actual queued jobs. "super.getQueueSize()" no longer
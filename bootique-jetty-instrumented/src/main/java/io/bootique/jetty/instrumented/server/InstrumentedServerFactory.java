@@ -27,13 +27,25 @@ import io.bootique.jetty.MappedListener;
 import io.bootique.jetty.MappedServlet;
 import io.bootique.jetty.instrumented.healthcheck.JettyHealthChecks;
 import io.bootique.jetty.instrumented.healthcheck.JettyHealthChecksFactory;
+import io.bootique.jetty.instrumented.request.EndpointMetricsFactory;
+import io.bootique.jetty.instrumented.request.RequestPhaseTimer;
+import io.bootique.jetty.instrumented.request.RequestTimer;
+import io.bootique.jetty.instrumented.request.RequestTimerFactory;
+import io.bootique.jetty.instrumented.request.SlidingWindowRecorder;
 import io.bootique.jetty.request.RequestMDCItem;
 import io.bootique.jetty.server.ServerFactory;
+import io.bootique.jetty.server.ServerHolder;
 import io.bootique.jetty.server.ServletContextHandlerExtender;
 import io.bootique.shutdown.ShutdownManager;
 import jakarta.inject.Inject;
 import jakarta.servlet.Filter;
 import jakarta.servlet.Servlet;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.LowResourceMonitor;
+import org.eclipse.jetty.server.NetworkConnectionLimit;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.handler.ContextHandler;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
 
 import java.util.EventListener;
@@ -46,6 +58,10 @@ public class InstrumentedServerFactory extends ServerFactory {
     private final MetricRegistry metricRegistry;
 
     private JettyHealthChecksFactory health;
+    private EndpointMetricsFactory endpointMetrics;
+    private RequestTimerFactory requestTimer;
+    private boolean requestPhaseMetrics;
+    private boolean selectorMetrics;
 
     @Inject
     public InstrumentedServerFactory(
@@ -79,6 +95,95 @@ public class InstrumentedServerFactory extends ServerFactory {
         this.health = health;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Enables per-endpoint request timers and response status meters. Endpoints are identified by the servlet \
+            name or the servlet URL pattern. If not set, only the aggregate request timer is maintained.""")
+    public void setEndpointMetrics(EndpointMetricsFactory endpointMetrics) {
+        this.endpointMetrics = endpointMetrics;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Configures request timing mode and per-request logging.")
+    public void setRequestTimer(RequestTimerFactory requestTimer) {
+        this.requestTimer = requestTimer;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            If true, each request is timed in phases: waiting for dispatch (including the thread pool queue wait), \
+            handling by the servlets, time to the first response byte and total time to completion. This allows to \
+            tell the thread starvation from the slow application code. The default is false.""")
+    public void setRequestPhaseMetrics(boolean requestPhaseMetrics) {
+        this.requestPhaseMetrics = requestPhaseMetrics;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            If true, connector selector threads are periodically probed to report their latency and load as \
+            "Connector.<name>.Selector.*" gauges. Also enabled implicitly when any of the selector health checks \
+            are configured. The default is false.""")
+    public void setSelectorMetrics(boolean selectorMetrics) {
+        this.selectorMetrics = selectorMetrics;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public RequestTimer createRequestTimer(MetricRegistry metricRegistry) {
+
+        RequestTimerFactory timerFactory = getRequestTimer();
+        JettyHealthChecksFactory health = getHealth();
+
+        // a single recorder backs both the sliding window gauges and the request SLO checks
+        SlidingWindowRecorder recorder = timerFactory.createRecorder(metricRegistry, health.getRequestWindowSeconds());
+        if (recorder != null) {
+            health.createRequestWindow(recorder, metricRegistry);
+        }
+
+        return timerFactory.createRequestTimer(
+                metricRegistry,
+                endpointMetrics != null ? endpointMetrics.createEndpointMetrics(metricRegistry) : null,
+                recorder);
+    }
+
+    RequestTimerFactory getRequestTimer() {
+        return requestTimer != null ? requestTimer : new RequestTimerFactory();
+    }
+
+    @Override
+    public ServerHolder createServerHolder() {
+        ServerHolder serverHolder = super.createServerHolder();
+        new StartupMetrics(metricRegistry).register(serverHolder);
+
+        // selector probing is not free, so only done when someone is looking at the results
+        boolean monitorSelectors = selectorMetrics || getHealth().hasSelectorChecks();
+
+        for (Connector connector : serverHolder.getServer().getConnectors()) {
+            connector.addBean(new ConnectorMetrics(connector, metricRegistry));
+
+            if (monitorSelectors) {
+                connector.addBean(new SelectorMetrics(connector, metricRegistry));
+            }
+        }
+
+        return serverHolder;
+    }
+
+    @Override
+    protected Handler wrapContextHandler(ContextHandler handler) {
+        Handler wrapped = super.wrapContextHandler(handler);
+        return requestPhaseMetrics ? new RequestPhaseTimer(wrapped, metricRegistry) : wrapped;
+    }
+
     @Override
     protected QueuedThreadPool createThreadPool() {
         QueuedThreadPool threadPool = new InstrumentedQueuedThreadPool(
@@ -88,7 +193,17 @@ public class InstrumentedServerFactory extends ServerFactory {
                 metricRegistry);
 
         threadPool.setName("bootique-http");
-        return threadPool;
+        return getThreadPool().configure(threadPool);
+    }
+
+    @Override
+    protected NetworkConnectionLimit createConnectionLimit(Server server, int maxConnections) {
+        return new InstrumentedConnectionLimit(maxConnections, server, metricRegistry);
+    }
+
+    @Override
+    protected LowResourceMonitor createLowResourceMonitor(Server server) {
+        return new InstrumentedLowResourceMonitor(server, metricRegistry);
     }
 
     public JettyHealthChecks createHealthChecks(MetricRegistry metricRegistry) {
@@ -0,0 +1,212 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import org.eclipse.jetty.io.ManagedSelector;
+import org.eclipse.jetty.io.SelectorManager;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.Scheduler;
+
+import java.nio.channels.Selector;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collects I/O layer saturation metrics of a single connector. The selector latency is measured by periodically
+ * submitting a no-op update to each connector {@link ManagedSelector} and timing how long it takes the selector thread
+ * to get to it. So it reflects both the time spent processing the selected keys and the backlog of the pending
+ * selector tasks. A probe that is still pending is reported with its current age, so a stuck selector is visible
+ * without waiting for the probe to complete. The metrics of the connector selectors are aggregated by taking the worst
+ * (highest) value.
+ *
+ * @since 4.0
+ */
+public class SelectorMetrics extends AbstractLifeCycle {
+
+    static final long PROBE_INTERVAL_MS = 1000;
+
+    private final Connector connector;
+    private final MetricRegistry metricRegistry;
+
+    private volatile List<Probe> probes;
+    private volatile Scheduler.Task probeTask;
+
+    public SelectorMetrics(Connector connector, MetricRegistry metricRegistry) {
+        this.connector = connector;
+        this.metricRegistry = metricRegistry;
+        this.probes = List.of();
+    }
+
+    public static String latencyMetric(String connectorName) {
+        return metricName(connectorName, "Selector.Latency");
+    }
+
+    public static String selectedKeysMetric(String connectorName) {
+        return metricName(connectorName, "Selector.SelectedKeys");
+    }
+
+    public static String keysMetric(String connectorName) {
+        return metricName(connectorName, "Selector.Keys");
+    }
+
+    public static boolean isLatencyMetric(String metricName) {
+        return isConnectorMetric(metricName, "Selector.Latency");
+    }
+
+    public static boolean isSelectedKeysMetric(String metricName) {
+        return isConnectorMetric(metricName, "Selector.SelectedKeys");
+    }
+
+    private static String metricName(String connectorName, String metric) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("Connector", connectorName + "." + metric);
+    }
+
+    private static boolean isConnectorMetric(String metricName, String metric) {
+        return metricName.startsWith(JettyInstrumentedModule.METRIC_NAMING.name("Connector", ""))
+                && metricName.endsWith("." + metric);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+
+        // connectors without a SelectorManager (e.g. a LocalConnector) have no selectors to monitor
+        SelectorManager selectorManager = connector.getBean(SelectorManager.class);
+        if (selectorManager != null) {
+
+            // selectors are created when the SelectorManager is started, which happens before this bean is started
+            this.probes = selectorManager.getBeans(ManagedSelector.class).stream().map(Probe::new).toList();
+
+            String name = ConnectorMetrics.connectorName(connector);
+            metricRegistry.register(latencyMetric(name), (Gauge<Integer>) this::getLatencyMs);
+            metricRegistry.register(selectedKeysMetric(name), (Gauge<Double>) this::getSelectedKeys);
+            metricRegistry.register(keysMetric(name), (Gauge<Long>) this::getKeys);
+
+            scheduleProbes();
+        }
+
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        Scheduler.Task task = this.probeTask;
+        if (task != null) {
+            task.cancel();
+            this.probeTask = null;
+        }
+
+        super.doStop();
+    }
+
+    /**
+     * Returns the worst selector latency in milliseconds.
+     */
+    public int getLatencyMs() {
+        long nanos = max(probes, Probe::getLatencyNanos);
+        return (int) Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * Returns the worst average number of keys selected per selector loop.
+     */
+    public double getSelectedKeys() {
+        return maxDouble(probes, p -> p.selector.getAverageSelectedKeys());
+    }
+
+    /**
+     * Returns the total number of keys (i.e. connections and pending accepts) registered with the connector selectors.
+     */
+    public long getKeys() {
+        long keys = 0;
+        for (Probe p : probes) {
+            keys += p.selector.getTotalKeys();
+        }
+        return keys;
+    }
+
+    private void scheduleProbes() {
+        if (isStopping() || isStopped()) {
+            return;
+        }
+
+        for (Probe p : probes) {
+            p.submit();
+        }
+
+        this.probeTask = connector.getScheduler().schedule(this::scheduleProbes, PROBE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    private static long max(List<Probe> probes, ToLongFunction<Probe> value) {
+        long max = 0;
+        for (Probe p : probes) {
+            max = Math.max(max, value.applyAsLong(p));
+        }
+        return max;
+    }
+
+    private static double maxDouble(List<Probe> probes, ToDoubleFunction<Probe> value) {
+        double max = 0;
+        for (Probe p : probes) {
+            max = Math.max(max, value.applyAsDouble(p));
+        }
+        return max;
+    }
+
+    static class Probe implements ManagedSelector.SelectorUpdate {
+
+        final ManagedSelector selector;
+
+        // 0 when there's no probe in flight
+        private volatile long submittedAt;
+        private volatile long lastLatency;
+
+        Probe(ManagedSelector selector) {
+            this.selector = selector;
+        }
+
+        // only called from the scheduler thread, so there's at most one probe in flight per selector
+        void submit() {
+            if (submittedAt == 0) {
+                submittedAt = System.nanoTime();
+                selector.submit(this);
+            }
+        }
+
+        @Override
+        public void update(Selector selector) {
+            long t0 = submittedAt;
+            if (t0 != 0) {
+                lastLatency = System.nanoTime() - t0;
+                submittedAt = 0;
+            }
+        }
+
+        long getLatencyNanos() {
+            long t0 = submittedAt;
+            long pending = t0 != 0 ? System.nanoTime() - t0 : 0;
+            return Math.max(lastLatency, pending);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import io.bootique.jetty.server.ServerHolder;
+import io.bootique.jetty.server.StartupProfiler;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
+
+import java.util.List;
+
+/**
+ * Reports the time in milliseconds spent in each Jetty startup phase, as well as the first request initialization time
+ * of the lazy servlets as gauges. A gauge returns -1 until its phase or initialization is complete.
+ *
+ * @since 4.0
+ */
+public class StartupMetrics {
+
+    static final List<String> PHASES = List.of(
+            StartupProfiler.THREAD_POOL_PHASE,
+            StartupProfiler.CONTEXT_HANDLER_PHASE,
+            StartupProfiler.EXTENDERS_PHASE,
+            StartupProfiler.CONNECTORS_PHASE,
+            StartupProfiler.CONTEXT_START_PHASE,
+            StartupProfiler.START_PHASE);
+
+    private final MetricRegistry metricRegistry;
+
+    public StartupMetrics(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    public static String phaseTimeMetric(String phase) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("Startup", phase + ".Time");
+    }
+
+    /**
+     * @param artifact lazy artifact name, e.g. "servlet:myservlet"
+     */
+    public static String lazyInitTimeMetric(String artifact) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("LazyInit", artifact + ".Time");
+    }
+
+    public void register(ServerHolder serverHolder) {
+
+        StartupProfiler startupProfiler = serverHolder.getStartupProfiler();
+        for (String phase : PHASES) {
+            metricRegistry.register(phaseTimeMetric(phase), (Gauge<Long>) () -> startupProfiler.getPhase(phase));
+        }
+
+        // lazy artifacts are only known once the server is started
+        serverHolder.getServer().addEventListener(new AbstractLifeCycle.AbstractLifeCycleListener() {
+            @Override
+            public void lifeCycleStarted(LifeCycle event) {
+                for (String artifact : startupProfiler.getLazyArtifacts().keySet()) {
+                    metricRegistry.register(
+                            lazyInitTimeMetric(artifact),
+                            (Gauge<Long>) () -> startupProfiler.getLazyArtifact(artifact));
+                }
+            }
+        });
+    }
+}
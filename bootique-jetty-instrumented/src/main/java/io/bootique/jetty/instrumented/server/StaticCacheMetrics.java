@@ -0,0 +1,74 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.jetty.instrumented.JettyInstrumentedModule;
+import io.bootique.jetty.server.ServletContextHandlerExtender;
+import io.bootique.jetty.servlet.MultiBaseStaticServlet;
+import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
+import org.eclipse.jetty.ee10.servlet.ServletHolder;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Registers in-memory cache gauges for each static servlet in the context. The gauges report zero unless the cache
+ * is enabled for a given servlet, and until the servlet is initialized.
+ *
+ * @since 4.0
+ */
+public class StaticCacheMetrics implements ServletContextHandlerExtender {
+
+    private final MetricRegistry metricRegistry;
+
+    public StaticCacheMetrics(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    public static String cachedBytesMetric(String servletName) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("StaticCache", servletName + ".CachedBytes");
+    }
+
+    public static String cachedFilesMetric(String servletName) {
+        return JettyInstrumentedModule.METRIC_NAMING.name("StaticCache", servletName + ".CachedFiles");
+    }
+
+    @Override
+    public void onHandlerInstalled(ServletContextHandler handler) {
+
+        // The servlets are not initialized yet (and the lazy ones won't be until the first request), so checking the
+        // declared class, and reading the servlet instance on every gauge call
+        for (ServletHolder holder : handler.getServletHandler().getServlets()) {
+            Class<?> servletClass = holder.getHeldClass();
+            if (servletClass != null && MultiBaseStaticServlet.class.isAssignableFrom(servletClass)) {
+                metricRegistry.register(
+                        cachedBytesMetric(holder.getName()),
+                        (Gauge<Long>) () -> cacheStat(holder, MultiBaseStaticServlet::getCachedBytes));
+                metricRegistry.register(
+                        cachedFilesMetric(holder.getName()),
+                        (Gauge<Long>) () -> cacheStat(holder, MultiBaseStaticServlet::getCachedFiles));
+            }
+        }
+    }
+
+    private static long cacheStat(ServletHolder holder, ToLongFunction<MultiBaseStaticServlet> stat) {
+        return holder.getServletInstance() instanceof MultiBaseStaticServlet servlet ? stat.applyAsLong(servlet) : 0L;
+    }
+}
@@ -25,10 +25,13 @@ import io.bootique.junit.BQTestFactory;
 import io.bootique.junit.BQTestTool;
 import io.bootique.metrics.health.HealthCheckOutcome;
 import io.bootique.metrics.health.HealthCheckRegistry;
+import io.bootique.metrics.health.HealthCheckStatus;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @BQTest
@@ -47,7 +50,25 @@ public class JettyHealthChecksIT {
 
         assertTrue(results.containsKey(JettyHealthChecksFactory.POOL_UTILIZATION_CHECK));
 
+        // selector and request SLO checks are only created when configured
+        assertFalse(results.containsKey(JettyHealthChecksFactory.SELECTOR_LATENCY_CHECK));
+        assertFalse(results.containsKey(JettyHealthChecksFactory.SELECTOR_SELECTED_KEYS_CHECK));
+        assertFalse(results.containsKey(JettyHealthChecksFactory.REQUEST_P99_CHECK));
+
         // deprecated, will remove in 5.0
         assertTrue(results.containsKey(JettyHealthChecksFactory.QUEUED_REQUESTS_CHECK));
     }
+
+    @Test
+    public void selectorChecks() {
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:selectorChecks.yml").createRuntime();
+        runtime.run();
+
+        HealthCheckRegistry registry = runtime.getInstance(HealthCheckRegistry.class);
+        Map<String, HealthCheckOutcome> results = registry.runHealthChecks();
+
+        // an idle server should have responsive selectors
+        assertEquals(HealthCheckStatus.OK, results.get(JettyHealthChecksFactory.SELECTOR_LATENCY_CHECK).getStatus());
+        assertEquals(HealthCheckStatus.OK, results.get(JettyHealthChecksFactory.SELECTOR_SELECTED_KEYS_CHECK).getStatus());
+    }
 }
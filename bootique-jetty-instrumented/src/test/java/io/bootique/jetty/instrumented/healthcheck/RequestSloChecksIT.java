@@ -0,0 +1,97 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.healthcheck;
+
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.instrumented.unit.AssertExtras;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import io.bootique.metrics.health.HealthCheckOutcome;
+import io.bootique.metrics.health.HealthCheckRegistry;
+import io.bootique.metrics.health.HealthCheckStatus;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@BQTest
+public class RequestSloChecksIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    final WebTarget base = ClientBuilder.newClient().target("http://localhost:8080");
+
+    @Test
+    public void requestChecks() throws InterruptedException {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:requestSlo.yml")
+                .module(b -> JettyModule.extend(b)
+                        .addServlet(new StatusServlet(200), "ok", "/ok")
+                        .addServlet(new StatusServlet(500), "error", "/error"))
+                .createRuntime();
+
+        runtime.run();
+
+        HealthCheckRegistry registry = runtime.getInstance(HealthCheckRegistry.class);
+
+        // the P999 check is not configured
+        assertFalse(registry.runHealthChecks().containsKey(JettyHealthChecksFactory.REQUEST_P999_CHECK));
+
+        testCheck(registry, JettyHealthChecksFactory.REQUEST_ERROR_RATIO_CHECK, HealthCheckStatus.OK);
+
+        base.path("/ok").request().get().close();
+        base.path("/error").request().get().close();
+
+        // the window only includes the complete seconds
+        Thread.sleep(1100);
+
+        testCheck(registry, JettyHealthChecksFactory.REQUEST_ERROR_RATIO_CHECK, HealthCheckStatus.CRITICAL);
+        testCheck(registry, JettyHealthChecksFactory.REQUEST_P99_CHECK, HealthCheckStatus.OK);
+        testCheck(registry, JettyHealthChecksFactory.REQUEST_RATE_CHECK, HealthCheckStatus.OK);
+    }
+
+    private void testCheck(HealthCheckRegistry registry, String check, HealthCheckStatus expectedStatus) {
+        AssertExtras.assertWithRetry(() -> {
+            HealthCheckOutcome result = registry.runHealthCheck(check);
+            assertEquals(expectedStatus, result.getStatus(), result.toString());
+        });
+    }
+
+    static class StatusServlet extends HttpServlet {
+
+        private final int status;
+
+        StatusServlet(int status) {
+            this.status = status;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            resp.setStatus(status);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.request;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@BQTest
+public class EndpointMetricsIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    final WebTarget base = ClientBuilder.newClient().target("http://localhost:8080");
+
+    @Test
+    public void endpointMetrics() {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:endpointMetrics.yml")
+                .module(b -> JettyModule.extend(b)
+                        .addServlet(new StatusServlet(200), "s1", "/s1")
+                        .addServlet(new StatusServlet(500), "s2", "/s2")
+                        .addServlet(new StatusServlet(200), "s3", "/s3"))
+                .createRuntime();
+
+        runtime.run();
+
+        base.path("/s1").request().get().close();
+        base.path("/s1").request().get().close();
+        base.path("/s2").request().get().close();
+
+        // over the "maxEndpoints" cap
+        base.path("/s3").request().get().close();
+
+        MetricRegistry metrics = runtime.getInstance(MetricRegistry.class);
+
+        assertEquals(2, metrics.timer(EndpointMetrics.timerMetric("s1")).getCount());
+        assertEquals(2, metrics.meter(EndpointMetrics.statusMeterMetric("s1", "2xx")).getCount());
+        assertEquals(0, metrics.meter(EndpointMetrics.statusMeterMetric("s1", "5xx")).getCount());
+
+        assertEquals(1, metrics.timer(EndpointMetrics.timerMetric("s2")).getCount());
+        assertEquals(1, metrics.meter(EndpointMetrics.statusMeterMetric("s2", "5xx")).getCount());
+
+        assertFalse(metrics.getTimers().containsKey(EndpointMetrics.timerMetric("s3")));
+        assertEquals(1, metrics.timer(EndpointMetrics.timerMetric(EndpointMetrics.OTHER_ENDPOINT)).getCount());
+    }
+
+    static class StatusServlet extends HttpServlet {
+
+        private final int status;
+
+        StatusServlet(int status) {
+            this.status = status;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            resp.setStatus(status);
+        }
+    }
+}
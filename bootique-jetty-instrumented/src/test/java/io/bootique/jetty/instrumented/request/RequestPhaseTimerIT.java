@@ -0,0 +1,105 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.request;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.instrumented.unit.AssertExtras;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class RequestPhaseTimerIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    final WebTarget base = ClientBuilder.newClient().target("http://localhost:8080");
+
+    @Test
+    public void phases() {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:requestPhases.yml")
+                .module(b -> JettyModule.extend(b).addServlet(new SlowServlet(), "s1", "/*"))
+                .createRuntime();
+
+        runtime.run();
+
+        base.request().get().close();
+
+        MetricRegistry metrics = runtime.getInstance(MetricRegistry.class);
+
+        AssertExtras.assertWithRetry(() -> {
+            assertEquals(1, metrics.timer(RequestPhaseTimer.queueWaitMetric()).getCount());
+            assertEquals(1, metrics.timer(RequestPhaseTimer.handlingMetric()).getCount());
+            assertEquals(1, metrics.timer(RequestPhaseTimer.firstByteMetric()).getCount());
+            assertEquals(1, metrics.timer(RequestPhaseTimer.completionMetric()).getCount());
+        });
+
+        long handling = metrics.timer(RequestPhaseTimer.handlingMetric()).getSnapshot().getMax();
+        long completion = metrics.timer(RequestPhaseTimer.completionMetric()).getSnapshot().getMax();
+
+        assertTrue(handling >= TimeUnit.MILLISECONDS.toNanos(50), () -> "Handling time too short: " + handling);
+        assertTrue(completion >= handling, () -> "Completion time is shorter than handling: " + completion);
+    }
+
+    @Test
+    public void disabledByDefault() {
+
+        BQRuntime runtime = testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addServlet(new SlowServlet(), "s1", "/*"))
+                .createRuntime();
+
+        runtime.run();
+
+        base.request().get().close();
+
+        MetricRegistry metrics = runtime.getInstance(MetricRegistry.class);
+        assertFalse(metrics.getTimers().containsKey(RequestPhaseTimer.handlingMetric()));
+    }
+
+    static class SlowServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            resp.getWriter().print("ok");
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.io.IOException;
 import java.util.Collection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @BQTest
 public class RequestTimerIT {
@@ -77,6 +78,59 @@ public class RequestTimerIT {
         assertEquals(2, timer.getCount());
     }
 
+    @Test
+    public void lowOverhead() {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:requestTimerLowOverhead.yml")
+                .module(b -> JettyModule.extend(b).addServlet(new TestServlet(), "s1", "/*"))
+                .module(tester.moduleReplacingConnectors())
+                .createRuntime();
+
+        runtime.run();
+
+        WebTarget target = tester.getTarget();
+
+        Response r1 = target.request().get();
+        assertEquals(Response.Status.OK.getStatusCode(), r1.getStatus());
+        assertEquals("test_servlet", r1.readEntity(String.class));
+
+        MetricRegistry metrics = runtime.getInstance(MetricRegistry.class);
+
+        Collection<Timer> timers = metrics.getTimers().values();
+        assertEquals(1, timers.size());
+
+        Timer timer = timers.iterator().next();
+        assertEquals(1, timer.getCount());
+        assertTrue(timer.getSnapshot().getMax() > 0);
+
+        target.request().get().close();
+        assertEquals(2, timer.getCount());
+    }
+
+    @Test
+    public void slidingWindows() {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:requestTimerSlidingWindows.yml")
+                .module(b -> JettyModule.extend(b).addServlet(new TestServlet(), "s1", "/*"))
+                .module(tester.moduleReplacingConnectors())
+                .createRuntime();
+
+        runtime.run();
+
+        WebTarget target = tester.getTarget();
+
+        Response r1 = target.request().get();
+        assertEquals(Response.Status.OK.getStatusCode(), r1.getStatus());
+        assertEquals("test_servlet", r1.readEntity(String.class));
+
+        MetricRegistry metrics = runtime.getInstance(MetricRegistry.class);
+
+        // the recorder gauges replace the timer
+        assertTrue(metrics.getTimers().isEmpty());
+        assertTrue(metrics.getGauges().containsKey(SlidingWindowRecorder.rateMetric(1)));
+        assertTrue(metrics.getGauges().containsKey(SlidingWindowRecorder.percentileMetric(60, "P99")));
+    }
+
     static class TestServlet extends HttpServlet {
 
         @Override
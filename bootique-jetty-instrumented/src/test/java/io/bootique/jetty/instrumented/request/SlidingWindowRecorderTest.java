@@ -0,0 +1,181 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.request;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SlidingWindowRecorderTest {
+
+    static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void bucket_Precision() {
+        for (long v : new long[]{0, 1, 15, 16, 17, 100, 1000, 12345, MS, 250 * MS, 7 * SECOND}) {
+            long bucketValue = SlidingWindowRecorder.bucketValue(SlidingWindowRecorder.bucket(v));
+            assertTrue(Math.abs(bucketValue - v) <= Math.max(1, v * 0.07), v + " vs " + bucketValue);
+        }
+    }
+
+    @Test
+    public void bucket_Range() {
+        assertEquals(0, SlidingWindowRecorder.bucket(-5));
+        assertEquals(SlidingWindowRecorder.BUCKETS - 1, SlidingWindowRecorder.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void snapshot() {
+        AtomicLong clock = new AtomicLong(100 * SECOND);
+        SlidingWindowRecorder recorder = new SlidingWindowRecorder(clock::get, 4, 1, 10);
+
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(i * MS);
+        }
+
+        // the current second is not included yet
+        assertEquals(0, recorder.snapshot(1).getCount());
+
+        clock.addAndGet(SECOND);
+        SlidingWindowRecorder.WindowSnapshot s1 = recorder.snapshot(1);
+        assertEquals(100, s1.getCount());
+        assertEquals(100., s1.getRate(), 0.0001);
+        assertEquals(50., s1.getValueMs(0.5), 50. * 0.07);
+        assertEquals(99., s1.getValueMs(0.99), 99. * 0.07);
+
+        SlidingWindowRecorder.WindowSnapshot s10 = recorder.snapshot(10);
+        assertEquals(100, s10.getCount());
+        assertEquals(10., s10.getRate(), 0.0001);
+
+        // the spike leaves the shorter window first
+        clock.addAndGet(2 * SECOND);
+        assertEquals(0, recorder.snapshot(1).getCount());
+        assertEquals(100, recorder.snapshot(10).getCount());
+
+        clock.addAndGet(10 * SECOND);
+        assertEquals(0, recorder.snapshot(10).getCount());
+        assertEquals(0, recorder.snapshot(10).getValue(0.99));
+    }
+
+    @Test
+    public void snapshot_SlotReuse() {
+        AtomicLong clock = new AtomicLong(100 * SECOND);
+        SlidingWindowRecorder recorder = new SlidingWindowRecorder(clock::get, 1, 1);
+
+        recorder.record(MS);
+
+        // jump far enough to land on the same slot
+        clock.addAndGet(3 * SECOND);
+        recorder.record(MS);
+        recorder.record(MS);
+
+        clock.addAndGet(SECOND);
+        assertEquals(2, recorder.snapshot(1).getCount());
+    }
+
+    @Test
+    public void snapshot_Errors() {
+        AtomicLong clock = new AtomicLong(100 * SECOND);
+        SlidingWindowRecorder recorder = new SlidingWindowRecorder(clock::get, 4, 1);
+
+        assertEquals(0., recorder.snapshot(1).getErrorRatio(), 0.0001);
+
+        for (int i = 0; i < 8; i++) {
+            recorder.record(MS, i % 4 == 0);
+        }
+
+        clock.addAndGet(SECOND);
+        SlidingWindowRecorder.WindowSnapshot s1 = recorder.snapshot(1);
+        assertEquals(8, s1.getCount());
+        assertEquals(2, s1.getErrorCount());
+        assertEquals(0.25, s1.getErrorRatio(), 0.0001);
+    }
+
+    @Test
+    public void snapshot_DuplicateWindows() {
+        AtomicLong clock = new AtomicLong(100 * SECOND);
+        SlidingWindowRecorder recorder = new SlidingWindowRecorder(clock::get, 1, 1, 10, 10);
+
+        recorder.record(MS);
+
+        clock.addAndGet(SECOND);
+        assertEquals(1, recorder.snapshot(10).getCount());
+    }
+
+    @Test
+    public void snapshot_UnknownWindow() {
+        SlidingWindowRecorder recorder = new SlidingWindowRecorder(1, 10);
+        assertThrows(IllegalArgumentException.class, () -> recorder.snapshot(5));
+    }
+
+    @Test
+    public void windowTooLong() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SlidingWindowRecorder(1, SlidingWindowRecorder.MAX_WINDOW_SECONDS + 1));
+    }
+
+    @Test
+    public void record_Concurrent() throws InterruptedException {
+
+        // the clock is frozen, so that no values are lost at the second boundary
+        AtomicLong clock = new AtomicLong(100 * SECOND);
+        SlidingWindowRecorder recorder = new SlidingWindowRecorder(clock::get, 8, 1);
+
+        int threads = 64;
+        int perThread = 10_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        for (int j = 0; j < perThread; j++) {
+                            recorder.record((j % 100 + 1) * MS);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            start.countDown();
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        clock.addAndGet(SECOND);
+        assertEquals((long) threads * perThread, recorder.snapshot(1).getCount());
+    }
+}
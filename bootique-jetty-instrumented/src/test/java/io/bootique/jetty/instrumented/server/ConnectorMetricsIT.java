@@ -0,0 +1,128 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.instrumented.unit.AssertExtras;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class ConnectorMetricsIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @Test
+    public void connectionMetrics() throws IOException {
+
+        BQRuntime runtime = testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addServlet(new TestServlet(), "s1", "/*"))
+                .createRuntime();
+        runtime.run();
+
+        MetricRegistry metrics = runtime.getInstance(MetricRegistry.class);
+        String connector = "http.8080";
+
+        assertEquals(0, metrics.counter(ConnectorMetrics.openConnectionsMetric(connector)).getCount());
+
+        try (Socket socket = new Socket("localhost", 8080)) {
+
+            AssertExtras.assertWithRetry(() ->
+                    assertEquals(1, metrics.counter(ConnectorMetrics.openConnectionsMetric(connector)).getCount()));
+
+            OutputStream out = socket.getOutputStream();
+            out.write("GET / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+
+            // read till the server closes the connection
+            InputStream in = socket.getInputStream();
+            while (in.read() >= 0) {
+            }
+        }
+
+        AssertExtras.assertWithRetry(() -> {
+            assertEquals(0, metrics.counter(ConnectorMetrics.openConnectionsMetric(connector)).getCount());
+            assertEquals(1, metrics.histogram(ConnectorMetrics.connectionDurationMetric(connector)).getCount());
+            assertEquals(1, metrics.histogram(ConnectorMetrics.messagesInMetric(connector)).getSnapshot().getMax());
+            assertTrue(metrics.meter(ConnectorMetrics.bytesInMetric(connector)).getCount() > 0);
+            assertTrue(metrics.meter(ConnectorMetrics.bytesOutMetric(connector)).getCount() > 0);
+        });
+    }
+
+    @Test
+    public void selectorMetrics() {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:selectorMetrics.yml")
+                .module(b -> JettyModule.extend(b).addServlet(new TestServlet(), "s1", "/*"))
+                .createRuntime();
+        runtime.run();
+
+        MetricRegistry metrics = runtime.getInstance(MetricRegistry.class);
+        String connector = "http.8080";
+
+        assertTrue(metrics.getGauges().containsKey(SelectorMetrics.latencyMetric(connector)));
+        assertTrue(metrics.getGauges().containsKey(SelectorMetrics.selectedKeysMetric(connector)));
+        assertTrue(metrics.getGauges().containsKey(SelectorMetrics.keysMetric(connector)));
+
+        // an idle selector picks up the probe right away
+        Integer latency = (Integer) metrics.getGauges().get(SelectorMetrics.latencyMetric(connector)).getValue();
+        assertTrue(latency >= 0 && latency < 1000, () -> "Unexpected selector latency: " + latency);
+
+        assertTrue(SelectorMetrics.isLatencyMetric(SelectorMetrics.latencyMetric(connector)));
+        assertTrue(SelectorMetrics.isSelectedKeysMetric(SelectorMetrics.selectedKeysMetric(connector)));
+    }
+
+    @Test
+    public void selectorMetrics_Disabled() {
+
+        BQRuntime runtime = testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addServlet(new TestServlet(), "s1", "/*"))
+                .createRuntime();
+        runtime.run();
+
+        MetricRegistry metrics = runtime.getInstance(MetricRegistry.class);
+        assertFalse(metrics.getGauges().containsKey(SelectorMetrics.latencyMetric("http.8080")));
+    }
+
+    static class TestServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.getWriter().print("ok");
+        }
+    }
+}
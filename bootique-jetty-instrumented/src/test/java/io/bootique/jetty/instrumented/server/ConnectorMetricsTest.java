@@ -0,0 +1,53 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class ConnectorMetricsTest {
+
+    @Test
+    public void connectorName() {
+        ServerConnector connector = new ServerConnector(new Server());
+        connector.setPort(8081);
+        assertEquals("http.8081", ConnectorMetrics.connectorName(connector));
+    }
+
+    @Test
+    public void connectorName_Unix() {
+        Server server = new Server();
+
+        UnixDomainServerConnector c1 = new UnixDomainServerConnector(server);
+        c1.setUnixDomainPath(Path.of("/var/run/app1.sock"));
+
+        UnixDomainServerConnector c2 = new UnixDomainServerConnector(server);
+        c2.setUnixDomainPath(Path.of("/var/run/app2.sock"));
+
+        assertEquals("http.unix.var_run_app1_sock", ConnectorMetrics.connectorName(c1));
+        assertNotEquals(ConnectorMetrics.connectorName(c1), ConnectorMetrics.connectorName(c2));
+    }
+}
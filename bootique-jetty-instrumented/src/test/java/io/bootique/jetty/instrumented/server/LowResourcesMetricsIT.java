@@ -0,0 +1,68 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.BQRuntime;
+import io.bootique.jetty.instrumented.unit.AssertExtras;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@BQTest
+public class LowResourcesMetricsIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @Test
+    public void connectionsAndLowResources() throws IOException {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:lowResources.yml").createRuntime();
+        runtime.run();
+
+        Gauge<Integer> connections = findGauge(runtime, InstrumentedConnectionLimit.connectionsMetric());
+        Gauge<Integer> lowResources = findGauge(runtime, InstrumentedLowResourceMonitor.lowResourcesMetric());
+
+        assertEquals(0, connections.getValue());
+        assertEquals(0, lowResources.getValue());
+
+        try (Socket s1 = new Socket("localhost", 14001); Socket s2 = new Socket("localhost", 14001)) {
+            AssertExtras.assertWithRetry(() -> assertEquals(2, connections.getValue()));
+        }
+
+        AssertExtras.assertWithRetry(() -> assertEquals(0, connections.getValue()));
+    }
+
+    private <T> Gauge<T> findGauge(BQRuntime runtime, String metricName) {
+
+        MetricRegistry registry = runtime.getInstance(MetricRegistry.class);
+        Collection<Gauge> gauges = registry.getGauges((n, m) -> metricName.equals(n)).values();
+        assertEquals(1, gauges.size(), "Unexpected number of gauges for " + metricName);
+        return gauges.iterator().next();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.MappedServlet;
+import io.bootique.jetty.server.StartupProfiler;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class StartupMetricsIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    final WebTarget base = ClientBuilder.newClient().target("http://localhost:8080");
+
+    @Test
+    public void phases() {
+
+        BQRuntime runtime = testFactory.app("-s").createRuntime();
+        runtime.run();
+
+        for (String phase : StartupMetrics.PHASES) {
+
+            // some phases may legitimately take less than a millisecond, but all of them must be complete
+            Gauge<Long> gauge = findGauge(runtime, StartupMetrics.phaseTimeMetric(phase));
+            assertTrue(gauge.getValue() >= 0, () -> "Phase not recorded: " + phase);
+        }
+
+        // the server start includes all the others, and can't be instant
+        Gauge<Long> start = findGauge(runtime, StartupMetrics.phaseTimeMetric(StartupProfiler.START_PHASE));
+        assertTrue(start.getValue() > 0, "Server start time is not recorded");
+    }
+
+    @Test
+    public void lazyInit() {
+
+        MappedServlet<?> mappedServlet = new MappedServlet<>(new SlowInitServlet(), Set.of("/s1"), "s1", Map.of(), true);
+
+        BQRuntime runtime = testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addMappedServlet(mappedServlet))
+                .createRuntime();
+        runtime.run();
+
+        Gauge<Long> gauge = findGauge(runtime, StartupMetrics.lazyInitTimeMetric("servlet:s1"));
+        assertEquals(-1L, gauge.getValue());
+
+        Response response = base.path("/s1").request().get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        assertTrue(gauge.getValue() >= SlowInitServlet.INIT_MS, () -> "Unexpected init time: " + gauge.getValue());
+    }
+
+    private <T> Gauge<T> findGauge(BQRuntime runtime, String metricName) {
+
+        MetricRegistry registry = runtime.getInstance(MetricRegistry.class);
+        Collection<Gauge> gauges = registry.getGauges((n, m) -> metricName.equals(n)).values();
+        assertEquals(1, gauges.size(), "Unexpected number of gauges for " + metricName);
+        return gauges.iterator().next();
+    }
+
+    static class SlowInitServlet extends HttpServlet {
+
+        static final long INIT_MS = 5;
+
+        @Override
+        public void init() {
+            try {
+                Thread.sleep(INIT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            resp.setStatus(200);
+        }
+    }
+}
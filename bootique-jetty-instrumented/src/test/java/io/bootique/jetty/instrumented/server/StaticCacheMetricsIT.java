@@ -0,0 +1,87 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.instrumented.server;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.MappedServlet;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@BQTest
+public class StaticCacheMetricsIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    final WebTarget base = ClientBuilder.newClient().target("http://localhost:8080");
+
+    @Test
+    public void cachedFile(@TempDir Path docroot) throws IOException {
+
+        String content = "body { margin: 0; }";
+        Files.writeString(docroot.resolve("style.css"), content);
+
+        BQRuntime runtime = testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addMappedServlet(MappedServlet
+                        .ofStatic("/")
+                        .name("docroot")
+                        .resourceBase(docroot.toString())
+                        .cache(1024 * 1024, 64 * 1024, 100)
+                        .build()))
+                .createRuntime();
+        runtime.run();
+
+        Gauge<Long> cachedBytes = findGauge(runtime, StaticCacheMetrics.cachedBytesMetric("docroot"));
+        Gauge<Long> cachedFiles = findGauge(runtime, StaticCacheMetrics.cachedFilesMetric("docroot"));
+
+        assertEquals(0L, cachedBytes.getValue());
+        assertEquals(0L, cachedFiles.getValue());
+
+        Response response = base.path("/style.css").request().get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(content, response.readEntity(String.class));
+
+        assertEquals(1L, cachedFiles.getValue());
+        assertEquals((long) content.length(), cachedBytes.getValue());
+    }
+
+    private <T> Gauge<T> findGauge(BQRuntime runtime, String metricName) {
+
+        MetricRegistry registry = runtime.getInstance(MetricRegistry.class);
+        Collection<Gauge> gauges = registry.getGauges((n, m) -> metricName.equals(n)).values();
+        assertEquals(1, gauges.size(), "Unexpected number of gauges for " + metricName);
+        return gauges.iterator().next();
+    }
+}
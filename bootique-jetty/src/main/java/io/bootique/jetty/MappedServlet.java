@@ -24,6 +24,7 @@ import io.bootique.resource.FolderResourceFactory;
 import jakarta.servlet.Servlet;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -33,6 +34,8 @@ import java.util.Set;
  */
 public class MappedServlet<T extends Servlet> extends MappedWebArtifact<T> {
 
+    private final boolean lazy;
+
     /**
      * Starts a builder of a MappedServlet that will act as a web server serving static files from some folder. If
      * the "urlPatterns" parameter is null or empty, the root pattern ("/") is assumed.
@@ -64,13 +67,36 @@ public class MappedServlet<T extends Servlet> extends MappedWebArtifact<T> {
      * @param params      servlet init parameters map.
      */
     public MappedServlet(T servlet, Set<String> urlPatterns, String name, Map<String, String> params) {
+        this(servlet, urlPatterns, name, params, false);
+    }
+
+    /**
+     * @param servlet     underlying servlet instance.
+     * @param urlPatterns URL patterns that this servlet will respond to.
+     * @param name        servlet name. If null, Jetty will assign its own name.
+     * @param params      servlet init parameters map.
+     * @param lazy        if true, the servlet will be initialized on the first request instead of on startup.
+     * @since 4.0
+     */
+    public MappedServlet(T servlet, Set<String> urlPatterns, String name, Map<String, String> params, boolean lazy) {
         super(servlet, urlPatterns, name, params);
+        this.lazy = lazy;
     }
 
     public T getServlet() {
         return getArtifact();
     }
 
+    /**
+     * Returns whether the servlet should be initialized on the first request instead of on startup. Can be
+     * overridden via "bq.jetty.servlets.[name].lazy" configuration property.
+     *
+     * @since 4.0
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
     /**
      * @since 3.0
      */
@@ -82,6 +108,9 @@ public class MappedServlet<T extends Servlet> extends MappedWebArtifact<T> {
         // capturing this as a String instead of boolean to allow Jetty apply its own string to boolean parsing
         // later when our value is mixed with the servlet init params
         private String pathInfoOnly;
+        private String precompressed;
+        private String generatePrecompressed;
+        private Map<String, String> params;
         private String name;
 
         protected StaticMappedServletBuilder(Set<String> urlPatterns) {
@@ -90,6 +119,7 @@ public class MappedServlet<T extends Servlet> extends MappedWebArtifact<T> {
             // must explicitly set the default to "false". Jetty superclass changed the default from "false" in v11
             // to "true" in v12. We are trying to preserve the existing behavior
             this.pathInfoOnly = "false";
+            this.params = new HashMap<>();
         }
 
         public StaticMappedServletBuilder name(String name) {
@@ -121,8 +151,81 @@ public class MappedServlet<T extends Servlet> extends MappedWebArtifact<T> {
             return this;
         }
 
+        /**
+         * Configures the static servlet to serve precompressed siblings of the requested files (e.g. "app.js.br" or
+         * "app.js.gz" for "app.js"), if the client accepts the corresponding encoding. Enables Brotli, Zstandard and
+         * gzip formats. Can be overridden via "bq.jetty.servlets.[name].params.precompressed" configuration property.
+         *
+         * @since 4.0
+         */
+        public StaticMappedServletBuilder precompressed() {
+            return precompressed(MultiBaseStaticServlet.DEFAULT_PRECOMPRESSED_FORMATS);
+        }
+
+        /**
+         * Configures the static servlet to serve precompressed siblings of the requested files.
+         *
+         * @param formats a comma-separated list of "encoding=extension" pairs in the order of preference, e.g.
+         *                "br=.br,gzip=.gz".
+         * @since 4.0
+         */
+        public StaticMappedServletBuilder precompressed(String formats) {
+            this.precompressed = formats;
+            return this;
+        }
+
+        /**
+         * Configures the static servlet to generate ".gz" siblings of the compressible files (JS, CSS, HTML, etc.) on
+         * startup, and serve them as precompressed content. Only applies to the resource bases located on the
+         * filesystem, that must be writable. Can be overridden via
+         * "bq.jetty.servlets.[name].params.generatePrecompressed" configuration property.
+         *
+         * @since 4.0
+         */
+        public StaticMappedServletBuilder generatePrecompressed() {
+            this.generatePrecompressed = "true";
+            return this;
+        }
+
+        /**
+         * Enables in-memory caching of the static files content, ETags and headers, so that the files are not read
+         * from the filesystem or a jar on every request. The least recently used entries are evicted when the cache
+         * limits are reached. Can be overridden via "bq.jetty.servlets.[name].params.maxCacheSize",
+         * "...maxCachedFileSize" and "...maxCachedFiles" configuration properties.
+         *
+         * @param maxCacheSize      max total size of the cached content in bytes
+         * @param maxCachedFileSize max size of a single cached file in bytes. Larger files are not cached.
+         * @param maxCachedFiles    max number of cached files
+         * @since 4.0
+         */
+        public StaticMappedServletBuilder cache(int maxCacheSize, int maxCachedFileSize, int maxCachedFiles) {
+            params.put("maxCacheSize", String.valueOf(maxCacheSize));
+            params.put("maxCachedFileSize", String.valueOf(maxCachedFileSize));
+            params.put("maxCachedFiles", String.valueOf(maxCachedFiles));
+            return this;
+        }
+
+        /**
+         * Enables serving the files from the filesystem resource bases via memory-mapped buffers if they are at least
+         * "minFileSize" bytes long. Large files are then written to the network straight from the OS page cache
+         * instead of being copied through the heap. Mapping can be combined with {@link #cache(int, int, int)} and
+         * precompressed files, and applies to the app-wide static resource base if the servlet has none of its own.
+         * Can be overridden via "bq.jetty.servlets.[name].params.mappedFileMinSize" configuration property.
+         *
+         * @param minFileSize min size of a file in bytes to be memory-mapped
+         * @since 4.0
+         */
+        public StaticMappedServletBuilder mappedFiles(int minFileSize) {
+            params.put("mappedFileMinSize", String.valueOf(minFileSize));
+            return this;
+        }
+
         public MappedServlet<?> build() {
-            return new MappedServlet<>(new MultiBaseStaticServlet(resourceBase, pathInfoOnly), urlPatterns, name);
+            return new MappedServlet<>(
+                    new MultiBaseStaticServlet(resourceBase, pathInfoOnly, precompressed, generatePrecompressed),
+                    urlPatterns,
+                    name,
+                    params);
         }
     }
 }
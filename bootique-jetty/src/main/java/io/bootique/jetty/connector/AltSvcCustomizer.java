@@ -0,0 +1,45 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.connector;
+
+import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.PreEncodedHttpField;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.Request;
+
+/**
+ * Adds "Alt-Svc" header to every response, advertising HTTP/3 availability on a given UDP port, so that the clients
+ * connected via TCP could switch to HTTP/3.
+ *
+ * @since 4.0
+ */
+public class AltSvcCustomizer implements HttpConfiguration.Customizer {
+
+    private final PreEncodedHttpField altSvc;
+
+    public AltSvcCustomizer(int http3Port, long maxAgeSec) {
+        this.altSvc = new PreEncodedHttpField("Alt-Svc", "h3=\":" + http3Port + "\"; ma=" + maxAgeSec);
+    }
+
+    @Override
+    public Request customize(Request request, HttpFields.Mutable responseHeaders) {
+        responseHeaders.add(altSvc);
+        return request;
+    }
+}
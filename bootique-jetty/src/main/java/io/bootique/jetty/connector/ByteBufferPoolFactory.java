@@ -0,0 +1,96 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.connector;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.value.Bytes;
+import org.eclipse.jetty.io.ArrayByteBufferPool;
+import org.eclipse.jetty.io.ByteBufferPool;
+
+/**
+ * Configures Jetty {@link ArrayByteBufferPool} that recycles the network I/O buffers. The pool keeps buffers in
+ * "buckets" of increasing capacity, each bucket "factor" bytes larger than the previous one, starting from
+ * "minCapacity" and up to "maxCapacity".
+ *
+ * @since 4.0
+ */
+@BQConfig("Configures a pool of reusable network I/O buffers")
+public class ByteBufferPoolFactory {
+
+    private Bytes minCapacity;
+    private Bytes maxCapacity;
+    private int factor;
+    private int maxBucketSize;
+    private Bytes maxHeapMemory;
+    private Bytes maxDirectMemory;
+
+    public ByteBufferPoolFactory() {
+        this.factor = 1024;
+        this.maxBucketSize = -1;
+    }
+
+    public ByteBufferPool createBufferPool() {
+        return new ArrayByteBufferPool(
+                minCapacity != null ? (int) minCapacity.getBytes() : 64,
+                factor,
+                maxCapacity != null ? (int) maxCapacity.getBytes() : 64 * 1024,
+                maxBucketSize,
+                maxHeapMemory != null ? maxHeapMemory.getBytes() : 0,
+                maxDirectMemory != null ? maxDirectMemory.getBytes() : 0);
+    }
+
+    @BQConfigProperty("Capacity of the smallest pooled buffer. The default is 64 bytes.")
+    public void setMinCapacity(Bytes minCapacity) {
+        this.minCapacity = minCapacity;
+    }
+
+    @BQConfigProperty("""
+            Capacity of the largest pooled buffer. Larger buffers are allocated on demand and are not retained. \
+            The default is 64KB.""")
+    public void setMaxCapacity(Bytes maxCapacity) {
+        this.maxCapacity = maxCapacity;
+    }
+
+    @BQConfigProperty("Capacity difference in bytes between the adjacent buffer buckets. The default is 1024.")
+    public void setFactor(int factor) {
+        this.factor = factor;
+    }
+
+    @BQConfigProperty("""
+            Max number of buffers retained in each bucket. The default is -1, meaning that the bucket size is only \
+            limited by "maxHeapMemory" and "maxDirectMemory".""")
+    public void setMaxBucketSize(int maxBucketSize) {
+        this.maxBucketSize = maxBucketSize;
+    }
+
+    @BQConfigProperty("""
+            Max amount of heap memory retained by the pool. If not set, Jetty would use a heuristic value based on \
+            the JVM max memory.""")
+    public void setMaxHeapMemory(Bytes maxHeapMemory) {
+        this.maxHeapMemory = maxHeapMemory;
+    }
+
+    @BQConfigProperty("""
+            Max amount of direct (off-heap) memory retained by the pool. If not set, Jetty would use a heuristic value \
+            based on the JVM max memory.""")
+    public void setMaxDirectMemory(Bytes maxDirectMemory) {
+        this.maxDirectMemory = maxDirectMemory;
+    }
+}
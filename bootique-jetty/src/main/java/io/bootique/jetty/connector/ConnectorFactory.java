@@ -23,12 +23,10 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
 import io.bootique.config.PolymorphicConfiguration;
+import io.bootique.value.Bytes;
 import io.bootique.value.Duration;
-import org.eclipse.jetty.io.ArrayByteBufferPool;
 import org.eclipse.jetty.io.ByteBufferPool;
 import org.eclipse.jetty.server.*;
-import org.eclipse.jetty.util.thread.ScheduledExecutorScheduler;
-import org.eclipse.jetty.util.thread.Scheduler;
 import org.eclipse.jetty.util.thread.ThreadPool;
 
 import java.util.Objects;
@@ -45,38 +43,56 @@ public abstract class ConnectorFactory implements PolymorphicConfiguration {
     private int requestHeaderSize;
     private Duration idleTimeout;
     private boolean sendServerVersion;
+    private ByteBufferPoolFactory bufferPool;
+    private boolean useDirectByteBuffers;
+    private Bytes headerCacheSize;
+    private Bytes outputBufferSize;
+    private Bytes outputAggregationSize;
+    private boolean sendDateHeader;
+    private boolean forwardedHeaders;
 
     public ConnectorFactory() {
         this.requestHeaderSize = 8 * 1024;
         this.responseHeaderSize = 8 * 1024;
+        this.useDirectByteBuffers = true;
+        this.sendDateHeader = true;
+        this.forwardedHeaders = true;
     }
 
-    public ServerConnector createConnector(Server server) {
+    /**
+     * Creates a Jetty connector. The default implementation produces a TCP {@link ServerConnector}, subclasses may
+     * return a different kind of connector.
+     */
+    public Connector createConnector(Server server) {
 
         // a few things are hardcoded for now... if needed we can turn these
         // into properties
 
         HttpConfiguration httpConfig = buildHttpConfiguration();
         ConnectionFactory[] connectionFactories = buildHttpConnectionFactories(httpConfig);
-        Scheduler scheduler = new ScheduledExecutorScheduler();
-        ByteBufferPool bufferPool = buildBufferPool();
-
-        // "-1" is Jetty default for acceptor and selector threads that triggers default init algorithm based on
-        // the number of machine cores
-        int acceptorThreads = this.acceptorThreads > 0 ? this.acceptorThreads : -1;
-        int selectorThreads = this.selectorThreads > 0 ? this.selectorThreads : -1;
+        ByteBufferPool bufferPool = buildBufferPool(server);
 
         ThreadPool threadPool = Objects.requireNonNull(server.getThreadPool());
 
         ServerConnector connector = new ServerConnector(
                 server,
                 threadPool,
-                scheduler,
+                // null scheduler makes the connector use the one of the Server, without managing its lifecycle
+                null,
                 bufferPool,
-                acceptorThreads,
-                selectorThreads,
+                resolveAcceptorThreads(),
+                resolveSelectorThreads(),
                 connectionFactories);
 
+        return configureNetworkConnector(connector);
+    }
+
+    /**
+     * Applies port, host and idle timeout configuration to the connector.
+     *
+     * @since 4.0
+     */
+    protected <T extends AbstractNetworkConnector> T configureNetworkConnector(T connector) {
         connector.setPort(resolvePort());
         connector.setIdleTimeout(getIdleTimeoutMs());
 
@@ -85,6 +101,22 @@ public abstract class ConnectorFactory implements PolymorphicConfiguration {
         return connector;
     }
 
+    /**
+     * @since 4.0
+     */
+    protected int resolveAcceptorThreads() {
+        // "-1" is Jetty default for acceptor and selector threads that triggers default init algorithm based on
+        // the number of machine cores
+        return acceptorThreads > 0 ? acceptorThreads : -1;
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected int resolveSelectorThreads() {
+        return selectorThreads > 0 ? selectorThreads : -1;
+    }
+
     protected long getIdleTimeoutMs() {
         return idleTimeout != null ? idleTimeout.getDuration().toMillis() : 30 * 1000;
     }
@@ -95,24 +127,38 @@ public abstract class ConnectorFactory implements PolymorphicConfiguration {
 
         HttpConfiguration httpConfig = new HttpConfiguration();
 
-        // most parameters are hardcoded for now... we should turn these
-        // into properties
+        httpConfig.setHeaderCacheSize(headerCacheSize != null ? (int) headerCacheSize.getBytes() : 512);
+
+        int outputBufferSize = this.outputBufferSize != null ? (int) this.outputBufferSize.getBytes() : 32 * 1024;
+        httpConfig.setOutputBufferSize(outputBufferSize);
+
+        // Jetty default is a quarter of the output buffer, so only set it explicitly if configured
+        if (outputAggregationSize != null) {
+            httpConfig.setOutputAggregationSize((int) outputAggregationSize.getBytes());
+        }
 
-        httpConfig.setHeaderCacheSize(512);
-        httpConfig.setOutputBufferSize(32 * 1024);
         httpConfig.setRequestHeaderSize(requestHeaderSize);
         httpConfig.setResponseHeaderSize(responseHeaderSize);
-        httpConfig.setSendDateHeader(true);
+        httpConfig.setSendDateHeader(sendDateHeader);
         httpConfig.setSendServerVersion(sendServerVersion);
+        httpConfig.setUseInputDirectByteBuffers(useDirectByteBuffers);
+        httpConfig.setUseOutputDirectByteBuffers(useDirectByteBuffers);
 
-        httpConfig.addCustomizer(new ForwardedRequestCustomizer());
+        if (forwardedHeaders) {
+            httpConfig.addCustomizer(new ForwardedRequestCustomizer());
+        }
 
         return httpConfig;
     }
 
-    protected ByteBufferPool buildBufferPool() {
-        // hardcoded for now... if needed we can turn these into properties
-        return new ArrayByteBufferPool(64, 1024, 64 * 1024);
+    /**
+     * Returns a buffer pool for the connector. Unless the connector has its own "bufferPool" configuration, the pool
+     * of the Server is returned, which is shared by all the connectors.
+     *
+     * @since 4.0
+     */
+    protected ByteBufferPool buildBufferPool(Server server) {
+        return bufferPool != null ? bufferPool.createBufferPool() : server.getByteBufferPool();
     }
 
     protected int resolvePort() {
@@ -226,6 +272,90 @@ public abstract class ConnectorFactory implements PolymorphicConfiguration {
         this.idleTimeout = idleTimeout;
     }
 
+    /**
+     * @since 4.0
+     */
+    public ByteBufferPoolFactory getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Configures a dedicated I/O buffer pool for this connector. If not set, the connector would use the pool \
+            shared by all connectors and configured via "jetty.bufferPool".""")
+    public void setBufferPool(ByteBufferPoolFactory bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public boolean isUseDirectByteBuffers() {
+        return useDirectByteBuffers;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Whether to use direct (off-heap) or heap buffers for the network I/O. The default is 'true', i.e. direct \
+            buffers are used.""")
+    public void setUseDirectByteBuffers(boolean useDirectByteBuffers) {
+        this.useDirectByteBuffers = useDirectByteBuffers;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Size of the cache of the common request header fields, reducing allocations when parsing headers. \
+            The default is 512 bytes.""")
+    public void setHeaderCacheSize(Bytes headerCacheSize) {
+        this.headerCacheSize = headerCacheSize;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Size of the response buffer. The response is committed and sent to the client when the buffer is full. \
+            Larger values benefit big streaming responses, smaller values reduce memory footprint of many concurrent \
+            small responses. The default is 32KB.""")
+    public void setOutputBufferSize(Bytes outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Max size of the response writes that are aggregated in the output buffer before being sent to the \
+            network. Larger writes are sent directly. The default is a quarter of "outputBufferSize".""")
+    public void setOutputAggregationSize(Bytes outputAggregationSize) {
+        this.outputAggregationSize = outputAggregationSize;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Whether to send the 'Date' header in responses. The default is 'true'.")
+    public void setSendDateHeader(boolean sendDateHeader) {
+        this.sendDateHeader = sendDateHeader;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Whether to process "Forwarded" and "X-Forwarded-*" request headers set by proxies, updating the request \
+            scheme, host and remote address accordingly. The default is 'true'. Can be turned off when the server is \
+            not behind a proxy to avoid the parsing cost and header spoofing.""")
+    public void setForwardedHeaders(boolean forwardedHeaders) {
+        this.forwardedHeaders = forwardedHeaders;
+    }
+
     /**
      * @since 1.1
      */
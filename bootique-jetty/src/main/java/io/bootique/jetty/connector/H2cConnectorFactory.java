@@ -0,0 +1,60 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.connector;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+
+/**
+ * A connector for the cleartext HTTP/2 ("h2c"), that also accepts HTTP/1.1 on the same port. HTTP/2 can be either
+ * started with "prior knowledge" (i.e. the client sending the HTTP/2 preface right away) or via an HTTP/1.1
+ * "Upgrade: h2c" request.
+ *
+ * @since 4.0
+ */
+@BQConfig
+@JsonTypeName("h2c")
+public class H2cConnectorFactory extends ConnectorFactory {
+
+    private Http2Factory http2;
+
+    @BQConfigProperty("HTTP/2 protocol settings.")
+    public void setHttp2(Http2Factory http2) {
+        this.http2 = http2;
+    }
+
+    @Override
+    protected ConnectionFactory[] buildHttpConnectionFactories(HttpConfiguration httpConfig) {
+
+        // HTTP/1.1 must go first, to be the default protocol of the connector. It will switch to HTTP/2 when it
+        // encounters either a preface or an upgrade request
+        return new ConnectionFactory[]{
+                new HttpConnectionFactory(httpConfig),
+                getHttp2().createCleartextConnectionFactory(httpConfig)
+        };
+    }
+
+    protected Http2Factory getHttp2() {
+        return http2 != null ? http2 : new Http2Factory();
+    }
+}
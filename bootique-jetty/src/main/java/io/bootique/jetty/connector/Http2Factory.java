@@ -0,0 +1,115 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.connector;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.jetty.server.OptionalDependency;
+import io.bootique.value.Bytes;
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+
+/**
+ * Configures HTTP/2 protocol settings of a connector. Any setting left unset would use the Jetty default. HTTP/2
+ * requires "org.eclipse.jetty.http2:jetty-http2-server" dependency, that is optional in bootique-jetty, so the
+ * Jetty HTTP/2 types are not exposed in the method signatures.
+ *
+ * @since 4.0
+ */
+@BQConfig("HTTP/2 protocol settings")
+public class Http2Factory {
+
+    private int maxConcurrentStreams;
+    private Bytes initialStreamRecvWindow;
+    private Bytes initialSessionRecvWindow;
+    private Bytes maxHeaderListSize;
+
+    /**
+     * Creates a connection factory for the cleartext HTTP/2 ("h2c").
+     */
+    public ConnectionFactory createCleartextConnectionFactory(HttpConfiguration httpConfig) {
+        OptionalDependency.HTTP2.require("\"h2c\" connector");
+        return configure(new HTTP2CServerConnectionFactory(resolveHttpConfiguration(httpConfig)));
+    }
+
+    /**
+     * Creates a connection factory for HTTP/2 over TLS ("h2").
+     */
+    public ConnectionFactory createConnectionFactory(HttpConfiguration httpConfig) {
+        OptionalDependency.HTTP2.require("\"h2\" protocol");
+        return configure(new HTTP2ServerConnectionFactory(resolveHttpConfiguration(httpConfig)));
+    }
+
+    protected ConnectionFactory configure(ConnectionFactory connectionFactory) {
+
+        AbstractHTTP2ServerConnectionFactory factory = (AbstractHTTP2ServerConnectionFactory) connectionFactory;
+
+        if (maxConcurrentStreams > 0) {
+            factory.setMaxConcurrentStreams(maxConcurrentStreams);
+        }
+
+        if (initialStreamRecvWindow != null) {
+            factory.setInitialStreamRecvWindow((int) initialStreamRecvWindow.getBytes());
+        }
+
+        if (initialSessionRecvWindow != null) {
+            factory.setInitialSessionRecvWindow((int) initialSessionRecvWindow.getBytes());
+        }
+
+        return factory;
+    }
+
+    // Jetty derives HTTP/2 SETTINGS_MAX_HEADER_LIST_SIZE from the request header size. To allow to configure it
+    // independently of HTTP/1.1, the HTTP/2 factory gets its own copy of the configuration
+    protected HttpConfiguration resolveHttpConfiguration(HttpConfiguration httpConfig) {
+
+        if (maxHeaderListSize == null) {
+            return httpConfig;
+        }
+
+        HttpConfiguration http2Config = new HttpConfiguration(httpConfig);
+        http2Config.setRequestHeaderSize((int) maxHeaderListSize.getBytes());
+        return http2Config;
+    }
+
+    @BQConfigProperty("Max number of concurrent streams per HTTP/2 connection. Jetty default is 128.")
+    public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    @BQConfigProperty("Initial flow control window size of a stream. Jetty default is 512KB.")
+    public void setInitialStreamRecvWindow(Bytes initialStreamRecvWindow) {
+        this.initialStreamRecvWindow = initialStreamRecvWindow;
+    }
+
+    @BQConfigProperty("Initial flow control window size of a connection (session). Jetty default is 1MB.")
+    public void setInitialSessionRecvWindow(Bytes initialSessionRecvWindow) {
+        this.initialSessionRecvWindow = initialSessionRecvWindow;
+    }
+
+    @BQConfigProperty("""
+            Max size of the request headers advertised to clients via HTTP/2 SETTINGS_MAX_HEADER_LIST_SIZE. \
+            If not set, the connector "requestHeaderSize" is used.""")
+    public void setMaxHeaderListSize(Bytes maxHeaderListSize) {
+        this.maxHeaderListSize = maxHeaderListSize;
+    }
+}
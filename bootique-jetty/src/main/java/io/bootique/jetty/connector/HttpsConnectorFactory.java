@@ -22,8 +22,11 @@ package io.bootique.jetty.connector;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import io.bootique.annotation.BQConfig;
 import io.bootique.annotation.BQConfigProperty;
+import io.bootique.jetty.server.OptionalDependency;
 import io.bootique.resource.ResourceFactory;
-import org.eclipse.jetty.http.HttpVersion;
+import io.bootique.value.Duration;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http2.HTTP2Cipher;
 import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
@@ -33,15 +36,28 @@ import org.eclipse.jetty.util.resource.URLResourceFactory;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @BQConfig
 @JsonTypeName("https")
 public class HttpsConnectorFactory extends ConnectorFactory {
 
+    static final String H2_PROTOCOL = "h2";
+    // ALPN protocol ids are lowercase, unlike HttpVersion.HTTP_1_1 ("HTTP/1.1"). Jetty matches connection factory
+    // protocols case-insensitively, so the same id works for the plain TLS connector
+    static final String HTTP_1_1_PROTOCOL = "http/1.1";
+
     private ResourceFactory keyStore;
     private String keyStorePassword;
     private String certificateAlias;
+    private List<String> protocols;
+    private Http2Factory http2;
+    private int altSvcHttp3Port;
+    private Duration altSvcMaxAge;
 
     public HttpsConnectorFactory() {
         keyStorePassword = "changeit";
@@ -62,14 +78,85 @@ public class HttpsConnectorFactory extends ConnectorFactory {
         this.certificateAlias = certificateAlias;
     }
 
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            A list of application protocols negotiated with the clients via TLS ALPN, in the order of server \
+            preference. Supported values are "h2" and "http/1.1". The default is "http/1.1" only, with no ALPN \
+            negotiation. E.g. "[h2, http/1.1]" enables HTTP/2, still allowing HTTP/1.1 clients to connect. If \
+            "http/1.1" is included, it is used for the clients that do not support ALPN. "h2" requires \
+            "org.eclipse.jetty.http2:jetty-http2-server" and "org.eclipse.jetty:jetty-alpn-java-server" \
+            dependencies.""")
+    public void setProtocols(List<String> protocols) {
+        this.protocols = validateProtocols(protocols);
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("HTTP/2 protocol settings. Only used if \"h2\" is included in \"protocols\".")
+    public void setHttp2(Http2Factory http2) {
+        this.http2 = http2;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            If set, the connector would advertise HTTP/3 on this UDP port to the clients via "Alt-Svc" response \
+            header. Normally this is the port of an "http3" connector of the same server.""")
+    public void setAltSvcHttp3Port(int altSvcHttp3Port) {
+        this.altSvcHttp3Port = altSvcHttp3Port;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            How long the clients should remember the HTTP/3 advertised via "altSvcHttp3Port". The default is 24 \
+            hours.""")
+    public void setAltSvcMaxAge(Duration altSvcMaxAge) {
+        this.altSvcMaxAge = altSvcMaxAge;
+    }
+
     @Override
     protected ConnectionFactory[] buildHttpConnectionFactories(HttpConfiguration httpConfig) {
-        return new ConnectionFactory[]{
-                buildSslConnectorFactory(httpConfig), buildHttp1BackingConnectorFactory(httpConfig)
-        };
+
+        List<String> protocols = resolveProtocols();
+        if (!protocols.contains(H2_PROTOCOL)) {
+            return new ConnectionFactory[]{
+                    buildSslConnectorFactory(httpConfig), buildHttp1BackingConnectorFactory(httpConfig)
+            };
+        }
+
+        OptionalDependency.HTTP2.require("\"h2\" protocol");
+        ConnectionFactory alpn = buildAlpnConnectionFactory(protocols);
+
+        List<ConnectionFactory> factories = new ArrayList<>(4);
+        factories.add(buildSslConnectorFactory(httpConfig, alpn.getProtocol(), true));
+        factories.add(alpn);
+
+        for (String p : protocols) {
+            factories.add(H2_PROTOCOL.equals(p)
+                    ? getHttp2().createConnectionFactory(httpConfig)
+                    : buildHttp1BackingConnectorFactory(httpConfig));
+        }
+
+        return factories.toArray(new ConnectionFactory[0]);
     }
 
     protected SslConnectionFactory buildSslConnectorFactory(HttpConfiguration httpConfig) {
+        return buildSslConnectorFactory(httpConfig, HTTP_1_1_PROTOCOL, false);
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected SslConnectionFactory buildSslConnectorFactory(
+            HttpConfiguration httpConfig,
+            String nextProtocol,
+            boolean http2) {
 
         Objects.requireNonNull(keyStore, "'keyStore' must be specified");
 
@@ -79,7 +166,57 @@ public class HttpsConnectorFactory extends ConnectorFactory {
         contextFactory.setKeyStorePassword(keyStorePassword);
         contextFactory.setCertAlias(certificateAlias);
 
-        return new SslConnectionFactory(contextFactory, HttpVersion.HTTP_1_1.asString());
+        if (http2) {
+            // HTTP/2 spec blacklists a number of ciphers. Make sure the allowed ones are preferred
+            contextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+        }
+
+        return new SslConnectionFactory(contextFactory, nextProtocol);
+    }
+
+    /**
+     * Creates ALPN connection factory. The return type is generic, as ALPN is an optional dependency.
+     *
+     * @since 4.0
+     */
+    protected ConnectionFactory buildAlpnConnectionFactory(List<String> protocols) {
+        OptionalDependency.ALPN.require("\"h2\" protocol");
+
+        ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory(protocols.toArray(new String[0]));
+
+        // clients that do not support ALPN can only speak HTTP/1.1, so it must be the default regardless of its
+        // position in the preference list
+        alpn.setDefaultProtocol(protocols.contains(HTTP_1_1_PROTOCOL) ? HTTP_1_1_PROTOCOL : protocols.get(0));
+        return alpn;
+    }
+
+    protected List<String> resolveProtocols() {
+        return protocols == null || protocols.isEmpty() ? List.of(HTTP_1_1_PROTOCOL) : protocols;
+    }
+
+    static List<String> validateProtocols(List<String> protocols) {
+
+        if (protocols == null) {
+            return null;
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (String p : protocols) {
+            if (!H2_PROTOCOL.equals(p) && !HTTP_1_1_PROTOCOL.equals(p)) {
+                throw new IllegalArgumentException("Unsupported HTTPS protocol '" + p
+                        + "'. Expected either '" + H2_PROTOCOL + "' or '" + HTTP_1_1_PROTOCOL + "'");
+            }
+
+            if (!seen.add(p)) {
+                throw new IllegalArgumentException("Duplicate HTTPS protocol '" + p + "'");
+            }
+        }
+
+        return protocols;
+    }
+
+    protected Http2Factory getHttp2() {
+        return http2 != null ? http2 : new Http2Factory();
     }
 
     protected HttpConnectionFactory buildHttp1BackingConnectorFactory(HttpConfiguration httpConfig) {
@@ -90,6 +227,12 @@ public class HttpsConnectorFactory extends ConnectorFactory {
     protected HttpConfiguration buildHttpConfiguration() {
         HttpConfiguration config = super.buildHttpConfiguration();
         config.addCustomizer(new SecureRequestCustomizer());
+
+        if (altSvcHttp3Port > 0) {
+            long maxAgeSec = altSvcMaxAge != null ? altSvcMaxAge.getDuration().toSeconds() : 24 * 60 * 60;
+            config.addCustomizer(new AltSvcCustomizer(altSvcHttp3Port, maxAgeSec));
+        }
+
         return config;
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.connector;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.jetty.server.OptionalDependency;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A connector listening on a Unix domain socket instead of a TCP port. Useful when the app is accessed by a proxy
+ * running on the same host, as it bypasses the TCP stack. "port" and "host" properties are ignored by this connector.
+ * Requires "org.eclipse.jetty:jetty-unixdomain-server" dependency, that is optional in bootique-jetty.
+ *
+ * @since 4.0
+ */
+@BQConfig("HTTP connector listening on a Unix domain socket")
+@JsonTypeName("unixsocket")
+public class UnixSocketConnectorFactory extends ConnectorFactory {
+
+    private String path;
+
+    @BQConfigProperty("Required. A filesystem path of the socket file.")
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    @Override
+    public Connector createConnector(Server server) {
+
+        Objects.requireNonNull(path, "'path' must be specified");
+        OptionalDependency.UNIX_DOMAIN.require("\"unixsocket\" connector");
+
+        HttpConfiguration httpConfig = buildHttpConfiguration();
+
+        UnixDomainServerConnector connector = new UnixDomainServerConnector(
+                server,
+                Objects.requireNonNull(server.getThreadPool()),
+                // null scheduler makes the connector use the one of the Server, without managing its lifecycle
+                null,
+                buildBufferPool(server),
+                resolveAcceptorThreads(),
+                resolveSelectorThreads(),
+                buildHttpConnectionFactories(httpConfig));
+
+        connector.setUnixDomainPath(Path.of(path));
+        connector.setIdleTimeout(getIdleTimeoutMs());
+        return connector;
+    }
+
+    @Override
+    protected ConnectionFactory[] buildHttpConnectionFactories(HttpConfiguration httpConfig) {
+        return new ConnectionFactory[]{new HttpConnectionFactory(httpConfig)};
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.value.Bytes;
+import org.eclipse.jetty.compression.Compression;
+import org.eclipse.jetty.compression.gzip.GzipCompression;
+import org.eclipse.jetty.compression.server.CompressionConfig;
+import org.eclipse.jetty.compression.server.CompressionHandler;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+import org.eclipse.jetty.util.TypeUtil;
+import org.eclipse.jetty.util.compression.CompressionPool;
+import org.eclipse.jetty.util.compression.DeflaterPool;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.zip.Deflater;
+
+/**
+ * Configures response compression. For backwards compatibility, can also be specified as a boolean, turning the
+ * compression with the default settings on or off. "gzip" encoding is always available. "br" and "zstd" are enabled
+ * when "jetty-compression-brotli" and "jetty-compression-zstandard" are present on the classpath, together with the
+ * optional "jetty-compression-server" and "jetty-compression-gzip".
+ *
+ * @since 4.0
+ */
+@BQConfig("Configures compression of responses")
+public class CompressionFactory {
+
+    private boolean enabled;
+    private Bytes minSize;
+    private int level;
+    private int deflaterPoolCapacity;
+    private Bytes inflateBufferSize;
+    private List<String> includedMimeTypes;
+    private List<String> excludedMimeTypes;
+    private List<String> includedPaths;
+    private List<String> excludedPaths;
+
+    public CompressionFactory() {
+        this.enabled = true;
+        this.level = Deflater.DEFAULT_COMPRESSION;
+        this.deflaterPoolCapacity = CompressionPool.DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Supports the legacy boolean form of the "compression" configuration.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static CompressionFactory of(boolean enabled) {
+        CompressionFactory factory = new CompressionFactory();
+        factory.setEnabled(enabled);
+        return factory;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates a handler compressing the responses. If "jetty-compression-server" and "jetty-compression-gzip" are
+     * present on the classpath, it is a Jetty CompressionHandler that supports "gzip" and any additional encodings.
+     * Otherwise, it is a legacy "gzip"-only handler from jetty-server.
+     */
+    public Handler.Wrapper createCompressionHandler() {
+        return OptionalDependency.COMPRESSION_SERVER.isAvailable() && OptionalDependency.COMPRESSION_GZIP.isAvailable()
+                ? new CompressionHandlerBuilder().createHandler()
+                : createGzipHandler();
+    }
+
+    // GzipHandler is deprecated in favor of CompressionHandler, but is the only option that doesn't require
+    // extra dependencies
+    @SuppressWarnings("removal")
+    protected Handler.Wrapper createGzipHandler() {
+        GzipHandler handler = new GzipHandler();
+
+        if (minSize != null) {
+            handler.setMinGzipSize((int) minSize.getBytes());
+        }
+
+        if (level != Deflater.DEFAULT_COMPRESSION || deflaterPoolCapacity != CompressionPool.DEFAULT_CAPACITY) {
+            handler.setDeflaterPool(new DeflaterPool(deflaterPoolCapacity, level, true));
+        }
+
+        if (inflateBufferSize != null) {
+            handler.setInflateBufferSize((int) inflateBufferSize.getBytes());
+        }
+
+        if (includedMimeTypes != null) {
+            handler.setIncludedMimeTypes(includedMimeTypes.toArray(new String[0]));
+        }
+
+        if (excludedMimeTypes != null) {
+            handler.setExcludedMimeTypes(excludedMimeTypes.toArray(new String[0]));
+        }
+
+        if (includedPaths != null) {
+            handler.setIncludedPaths(includedPaths.toArray(new String[0]));
+        }
+
+        if (excludedPaths != null) {
+            handler.setExcludedPaths(excludedPaths.toArray(new String[0]));
+        }
+
+        return handler;
+    }
+
+    @BQConfigProperty("Whether compression of responses is enabled. The default is 'true'.")
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @BQConfigProperty("Min size of the response to compress. Smaller responses are sent as is. The default is 32 bytes.")
+    public void setMinSize(Bytes minSize) {
+        this.minSize = minSize;
+    }
+
+    @BQConfigProperty("""
+            "gzip" compression level from 1 (fastest) to 9 (best compression). The default is -1 that corresponds \
+            to the JDK Deflater default (level 6).""")
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    @BQConfigProperty("Max number of pooled Deflater objects used for \"gzip\" compression. The default is 1024.")
+    public void setDeflaterPoolCapacity(int deflaterPoolCapacity) {
+        this.deflaterPoolCapacity = deflaterPoolCapacity;
+    }
+
+    @BQConfigProperty("""
+            If set, enables decompression of compressed request bodies, using the buffer of this size. Not \
+            set by default, i.e. compressed requests are passed to the application as is.""")
+    public void setInflateBufferSize(Bytes inflateBufferSize) {
+        this.inflateBufferSize = inflateBufferSize;
+    }
+
+    @BQConfigProperty("MIME types to compress. If not set, all types are compressed, except for the excluded ones.")
+    public void setIncludedMimeTypes(List<String> includedMimeTypes) {
+        this.includedMimeTypes = includedMimeTypes;
+    }
+
+    @BQConfigProperty("""
+            MIME types to never compress. If not set, Jetty excludes the known compressed formats (images, \
+            archives, video, etc.)""")
+    public void setExcludedMimeTypes(List<String> excludedMimeTypes) {
+        this.excludedMimeTypes = excludedMimeTypes;
+    }
+
+    @BQConfigProperty("Path specs of the requests to compress. If not set, all paths are compressed.")
+    public void setIncludedPaths(List<String> includedPaths) {
+        this.includedPaths = includedPaths;
+    }
+
+    @BQConfigProperty("Path specs of the requests to never compress.")
+    public void setExcludedPaths(List<String> excludedPaths) {
+        this.excludedPaths = excludedPaths;
+    }
+
+    // Isolates the references to the optional "jetty-compression-*" classes, so that they are only loaded if present
+    private class CompressionHandlerBuilder {
+
+        // returning a Jetty core type, so that the verifier doesn't load CompressionHandler with the outer class
+        Handler.Wrapper createHandler() {
+            CompressionHandler handler = new CompressionHandler();
+
+            handler.putCompression(configure(createGzipCompression()));
+
+            // optional encodings (brotli, zstd) that are present on classpath
+            TypeUtil.serviceStream(ServiceLoader.load(Compression.class))
+                    .filter(c -> !(c instanceof GzipCompression))
+                    .forEach(c -> handler.putCompression(configure(c)));
+
+            handler.putConfiguration("/", createCompressionConfig());
+            return handler;
+        }
+
+        GzipCompression createGzipCompression() {
+            GzipCompression compression = new GzipCompression();
+
+            if (level != Deflater.DEFAULT_COMPRESSION) {
+                compression.getDefaultEncoderConfig().setCompressionLevel(level);
+            }
+
+            if (level != Deflater.DEFAULT_COMPRESSION || deflaterPoolCapacity != CompressionPool.DEFAULT_CAPACITY) {
+                // "nowrap" must be "true", as GzipCompression writes gzip headers and trailers on its own
+                compression.setDeflaterPool(new DeflaterPool(deflaterPoolCapacity, level, true));
+            }
+
+            return compression;
+        }
+
+        <T extends Compression> T configure(T compression) {
+
+            if (minSize != null) {
+                compression.setMinCompressSize((int) minSize.getBytes());
+            }
+
+            if (inflateBufferSize != null) {
+                compression.getDefaultDecoderConfig().setBufferSize((int) inflateBufferSize.getBytes());
+            }
+
+            return compression;
+        }
+
+        CompressionConfig createCompressionConfig() {
+            CompressionConfig.Builder builder = CompressionConfig.builder().defaults();
+
+            // request decompression is opt-in
+            if (inflateBufferSize == null) {
+                builder.decompressExcludePath("/*");
+            }
+
+            if (includedMimeTypes != null) {
+                includedMimeTypes.forEach(builder::compressIncludeMimeType);
+            }
+
+            if (excludedMimeTypes != null) {
+                excludedMimeTypes.forEach(builder::compressExcludeMimeType);
+            }
+
+            if (includedPaths != null) {
+                includedPaths.forEach(builder::compressIncludePath);
+            }
+
+            if (excludedPaths != null) {
+                excludedPaths.forEach(builder::compressExcludePath);
+            }
+
+            return builder.build();
+        }
+    }
+}
@@ -19,24 +19,34 @@
 
 package io.bootique.jetty.server;
 
+import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.NetworkConnector;
+import org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector;
 
 import java.net.InetAddress;
+import java.net.URLEncoder;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 /**
  * @since 2.0
  */
 public class ConnectorHolder {
 
-    private NetworkConnector connector;
+    private Connector connector;
 
-    public ConnectorHolder(NetworkConnector connector) {
+    public ConnectorHolder(Connector connector) {
         this.connector = connector;
     }
 
     public String getUrl(String context) {
 
+        Path unixSocketPath = getUnixSocketPath();
+        if (unixSocketPath != null) {
+            return getUnixSocketUrl(unixSocketPath, context);
+        }
+
         String protocol = getProtocol();
         String host = getHost();
         int port = resolveNonDefaultPort(protocol);
@@ -55,13 +65,24 @@ public class ConnectorHolder {
         return url.toString();
     }
 
+    /**
+     * Returns connector port, or -1 for the connectors not listening on a TCP or UDP port (e.g. Unix domain
+     * sockets).
+     */
     public int getPort() {
-        return connector.getPort();
+        return connector instanceof NetworkConnector nc ? nc.getPort() : -1;
     }
 
     public String getHost() {
-        if (connector.getHost() != null) {
-            return connector.getHost();
+
+        Path unixSocketPath = getUnixSocketPath();
+        if (unixSocketPath != null) {
+            return unixSocketPath.toString();
+        }
+
+        String host = connector instanceof NetworkConnector nc ? nc.getHost() : null;
+        if (host != null) {
+            return host;
         }
 
         try {
@@ -71,10 +92,25 @@ public class ConnectorHolder {
         }
     }
 
+    /**
+     * Returns a socket file path if the connector is listening on a Unix domain socket, or null otherwise.
+     *
+     * @since 4.0
+     */
+    public Path getUnixSocketPath() {
+
+        // jetty-unixdomain-server is optional, so check that it is present before referencing its classes
+        return OptionalDependency.UNIX_DOMAIN.isAvailable() && connector instanceof UnixDomainServerConnector unix
+                ? unix.getUnixDomainPath()
+                : null;
+    }
+
     public String getProtocol() {
 
         for (String protocol : connector.getProtocols()) {
-            if ("ssl".equals(protocol)) {
+
+            // HTTP/3 runs on top of QUIC that is always encrypted
+            if ("ssl".equals(protocol) || protocol.startsWith("h3")) {
                 return "https";
             }
         }
@@ -82,8 +118,22 @@ public class ConnectorHolder {
         return "http";
     }
 
+    // follows the "http+unix" convention used by some HTTP clients, with the socket path URL-encoded in place of
+    // the host
+    private String getUnixSocketUrl(Path socketPath, String context) {
+
+        String path = URLEncoder.encode(socketPath.toString(), StandardCharsets.UTF_8);
+        StringBuilder url = new StringBuilder(getProtocol()).append("+unix://").append(path);
+
+        if (!"/".equals(context)) {
+            url.append(context);
+        }
+
+        return url.toString();
+    }
+
     private int resolveNonDefaultPort(String protocol) {
-        int port = connector.getPort();
+        int port = getPort();
         if (port == 80 && "http".equals(protocol)) {
             return 0;
         }
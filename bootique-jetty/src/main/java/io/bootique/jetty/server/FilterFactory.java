@@ -22,6 +22,7 @@ package io.bootique.jetty.server;
 import io.bootique.annotation.BQConfig;
 import io.bootique.jetty.MappedFilter;
 import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
 import org.eclipse.jetty.ee10.servlet.FilterHolder;
 import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
 import org.slf4j.Logger;
@@ -52,7 +53,7 @@ public class FilterFactory extends WebArtifactFactory {
 			return Optional.empty();
 		}
 
-		FilterHolder holder = new FilterHolder(mappedFilter.getFilter());
+		FilterHolder holder = createHolder(handler, mappedFilter.getFilter());
 
 		if (mappedFilter.getName() != null) {
 			holder.setName(mappedFilter.getName());
@@ -78,4 +79,12 @@ public class FilterFactory extends WebArtifactFactory {
 		return Optional.of(holder);
 	}
 
+	/**
+	 * @since 4.0
+	 */
+	protected FilterHolder createHolder(ServletContextHandler handler, Filter filter) {
+		return handler instanceof StartupServletContextHandler sh
+				? new StartupFilterHolder(filter, sh)
+				: new FilterHolder(filter);
+	}
 }
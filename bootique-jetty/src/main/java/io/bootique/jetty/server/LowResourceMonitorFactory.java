@@ -0,0 +1,97 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.value.Bytes;
+import io.bootique.value.Duration;
+import org.eclipse.jetty.server.LowResourceMonitor;
+
+/**
+ * Configures Jetty {@link LowResourceMonitor} that periodically checks the server for low resources (threads and
+ * memory), and when those are detected, shortens the idle timeout of the connections to shed the load.
+ *
+ * @since 4.0
+ */
+@BQConfig("Configures detection of low resources (threads, memory) and the server reaction to it")
+public class LowResourceMonitorFactory {
+
+    private Duration period;
+    private Duration idleTimeout;
+    private Duration maxLowResourcesTime;
+    private boolean monitorThreads;
+    private Bytes maxMemory;
+    private boolean acceptingInLowResources;
+
+    public LowResourceMonitorFactory() {
+        this.monitorThreads = true;
+        this.acceptingInLowResources = true;
+    }
+
+    public LowResourceMonitor configure(LowResourceMonitor monitor) {
+        monitor.setPeriod(period != null ? (int) period.getDuration().toMillis() : 1000);
+        monitor.setLowResourcesIdleTimeout(idleTimeout != null ? (int) idleTimeout.getDuration().toMillis() : 1000);
+        monitor.setMaxLowResourcesTime(maxLowResourcesTime != null ? (int) maxLowResourcesTime.getDuration().toMillis() : 0);
+        monitor.setMonitorThreads(monitorThreads);
+        monitor.setMaxMemory(maxMemory != null ? maxMemory.getBytes() : 0);
+        monitor.setAcceptingInLowResources(acceptingInLowResources);
+        return monitor;
+    }
+
+    @BQConfigProperty("How often to check for low resources. The default is 1 second.")
+    public void setPeriod(Duration period) {
+        this.period = period;
+    }
+
+    @BQConfigProperty("""
+            Connection idle timeout applied while the server is low on resources, closing the idle connections \
+            sooner. The default is 1 second.""")
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    @BQConfigProperty("""
+            Max time the server can stay low on resources before all idle connections are closed, even if they did \
+            not reach the low resources idle timeout. The default is zero, i.e. no limit.""")
+    public void setMaxLowResourcesTime(Duration maxLowResourcesTime) {
+        this.maxLowResourcesTime = maxLowResourcesTime;
+    }
+
+    @BQConfigProperty("""
+            Whether the server is considered low on resources when the request thread pool is low on threads. \
+            The default is 'true'.""")
+    public void setMonitorThreads(boolean monitorThreads) {
+        this.monitorThreads = monitorThreads;
+    }
+
+    @BQConfigProperty("""
+            Max heap memory used by the JVM, above which the server is considered low on resources. If not set, \
+            memory is not monitored.""")
+    public void setMaxMemory(Bytes maxMemory) {
+        this.maxMemory = maxMemory;
+    }
+
+    @BQConfigProperty("""
+            Whether to keep accepting new connections while low on resources. The default is 'true'. If 'false', \
+            the connectors stop accepting until the resources are recovered.""")
+    public void setAcceptingInLowResources(boolean acceptingInLowResources) {
+        this.acceptingInLowResources = acceptingInLowResources;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+/**
+ * Jetty modules that are optional dependencies of bootique-jetty. Apps that use the corresponding features must
+ * include them explicitly. The code using the classes of these modules must not expose them in the signatures of the
+ * configuration objects, and must call {@link #require(String)} before using them.
+ *
+ * @since 4.0
+ */
+public enum OptionalDependency {
+
+    HTTP2("org.eclipse.jetty.http2:jetty-http2-server", "org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory"),
+    ALPN("org.eclipse.jetty:jetty-alpn-java-server", "org.eclipse.jetty.alpn.java.server.JDK9ServerALPNProcessor"),
+    UNIX_DOMAIN(
+            "org.eclipse.jetty:jetty-unixdomain-server",
+            "org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector"),
+    COMPRESSION_SERVER(
+            "org.eclipse.jetty.compression:jetty-compression-server",
+            "org.eclipse.jetty.compression.server.CompressionHandler"),
+    COMPRESSION_GZIP(
+            "org.eclipse.jetty.compression:jetty-compression-gzip",
+            "org.eclipse.jetty.compression.gzip.GzipCompression");
+
+    private final String artifact;
+    private final String probeClass;
+    private volatile Boolean available;
+
+    OptionalDependency(String artifact, String probeClass) {
+        this.artifact = artifact;
+        this.probeClass = probeClass;
+    }
+
+    public String getArtifact() {
+        return artifact;
+    }
+
+    public boolean isAvailable() {
+
+        // a benign race, the check returns the same value when done more than once
+        Boolean available = this.available;
+        if (available == null) {
+            this.available = available = probe();
+        }
+
+        return available;
+    }
+
+    /**
+     * Throws an exception if the dependency is not on the classpath.
+     *
+     * @param feature a user-facing name of the feature that requires the dependency
+     */
+    public void require(String feature) {
+        if (!isAvailable()) {
+            throw new IllegalStateException(feature + " requires '" + artifact + "' dependency on the classpath");
+        }
+    }
+
+    private boolean probe() {
+        try {
+            Class.forName(probeClass, false, OptionalDependency.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
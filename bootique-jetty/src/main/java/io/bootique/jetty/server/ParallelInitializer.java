@@ -0,0 +1,137 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import org.eclipse.jetty.server.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Initializes web artifacts in parallel on a bounded pool of threads. Artifacts of the same stage (e.g. filters) are
+ * initialized concurrently, while the stages are executed in the order of submission, i.e. all filters are
+ * initialized before any of the servlets. The first initialization error cancels the pending tasks and is rethrown.
+ *
+ * @since 4.0
+ */
+class ParallelInitializer {
+
+    enum Stage {FILTERS, SERVLETS}
+
+    @FunctionalInterface
+    interface InitTask {
+        void run() throws Exception;
+    }
+
+    private final int threads;
+
+    private ExecutorService executor;
+    private CompletionService<Void> completionService;
+    private List<Future<Void>> pending;
+    private Stage stage;
+    private Context context;
+
+    ParallelInitializer(int threads) {
+        this.threads = threads;
+    }
+
+    void start(Context context) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "bootique-http-init-" + counter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        };
+
+        this.context = context;
+        this.executor = Executors.newFixedThreadPool(threads, threadFactory);
+        this.completionService = new ExecutorCompletionService<>(executor);
+        this.pending = new ArrayList<>();
+        this.stage = null;
+    }
+
+    boolean isStarted() {
+        return executor != null;
+    }
+
+    void submit(Stage stage, InitTask task) throws Exception {
+
+        // the new stage can only start when the previous one is fully done
+        if (this.stage != stage) {
+            await();
+            this.stage = stage;
+        }
+
+        pending.add(completionService.submit(() -> {
+            runInContext(task);
+            return null;
+        }));
+    }
+
+    /**
+     * Waits for all the pending tasks to finish, rethrowing the first encountered error.
+     */
+    void await() throws Exception {
+        try {
+            for (int i = 0; i < pending.size(); i++) {
+                try {
+                    completionService.take().get();
+                } catch (ExecutionException e) {
+                    pending.forEach(f -> f.cancel(true));
+                    throw e.getCause() instanceof Exception ex ? ex : e;
+                }
+            }
+        } finally {
+            pending.clear();
+        }
+    }
+
+    void stop() {
+        executor.shutdownNow();
+        executor = null;
+        completionService = null;
+        context = null;
+    }
+
+    private void runInContext(InitTask task) throws Exception {
+
+        // running within the context scope, so that the artifacts see the same thread context (class loader, current
+        // context, etc.) as they would when initialized by Jetty
+        Exception[] error = new Exception[1];
+        context.run(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                error[0] = e;
+            }
+        });
+
+        if (error[0] != null) {
+            throw error[0];
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.http.PreEncodedHttpField;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A handler that rejects requests with status 503 when the number of requests in flight exceeds the configured limit.
+ * A request is in flight from the moment it enters this handler and until its response is completed, so both the
+ * requests occupying the threads and the suspended async requests are counted. Rejection is cheap, so when the
+ * application is saturated, the threads that are still free answer the backlog quickly instead of piling it up.
+ *
+ * @since 4.0
+ */
+public class RequestLimitHandler extends Handler.Wrapper {
+
+    private final int maxRequests;
+    private final PreEncodedHttpField retryAfter;
+    private final AtomicInteger requests;
+
+    public RequestLimitHandler(Handler handler, int maxRequests, Duration retryAfter) {
+        super(handler);
+        this.maxRequests = maxRequests;
+        this.retryAfter = retryAfter != null
+                ? new PreEncodedHttpField(HttpHeader.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())))
+                : null;
+        this.requests = new AtomicInteger();
+    }
+
+    /**
+     * Returns the number of requests currently in flight.
+     */
+    public int getRequests() {
+        return requests.get();
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    @Override
+    public boolean handle(Request request, Response response, Callback callback) throws Exception {
+
+        if (requests.incrementAndGet() > maxRequests) {
+            requests.decrementAndGet();
+
+            if (retryAfter != null) {
+                response.getHeaders().add(retryAfter);
+            }
+
+            Response.writeError(request, response, callback, HttpStatus.SERVICE_UNAVAILABLE_503);
+            return true;
+        }
+
+        // guard against releasing the slot twice if the handler completes the callback and then throws
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                requests.decrementAndGet();
+            }
+        };
+
+        boolean handled = false;
+        try {
+            handled = super.handle(request, response, Callback.from(callback, release));
+            return handled;
+        } finally {
+
+            // the callback is not going to be called for the unhandled requests or on exception
+            if (!handled) {
+                release.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import org.eclipse.jetty.util.thread.ScheduledExecutorScheduler;
+import org.eclipse.jetty.util.thread.Scheduler;
+
+/**
+ * Configures a {@link Scheduler} owned by the Server and shared by all the connectors. It is used for idle timeouts
+ * and other timed tasks.
+ *
+ * @since 4.0
+ */
+@BQConfig("Configures a scheduler for timed tasks shared by the server and all the connectors")
+public class SchedulerFactory {
+
+    private int threads;
+
+    public SchedulerFactory() {
+        this.threads = 1;
+    }
+
+    public Scheduler createScheduler() {
+        return new ScheduledExecutorScheduler("bootique-http-scheduler", false, threads > 0 ? threads : 1);
+    }
+
+    @BQConfigProperty("""
+            Number of scheduler threads. The default is 1, which is usually sufficient, as Jetty coalesces \
+            connection idle timeouts, scheduling a single task per connection instead of one per I/O operation.""")
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+}
@@ -24,6 +24,7 @@ import io.bootique.annotation.BQConfigProperty;
 import io.bootique.jetty.MappedFilter;
 import io.bootique.jetty.MappedListener;
 import io.bootique.jetty.MappedServlet;
+import io.bootique.jetty.connector.ByteBufferPoolFactory;
 import io.bootique.jetty.connector.ConnectorFactory;
 import io.bootique.jetty.connector.HttpConnectorFactory;
 import io.bootique.jetty.request.RequestMDCItem;
@@ -35,15 +36,17 @@ import jakarta.servlet.Filter;
 import jakarta.servlet.Servlet;
 import org.eclipse.jetty.ee10.servlet.ErrorPageErrorHandler;
 import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
+import org.eclipse.jetty.io.ByteBufferPool;
 import org.eclipse.jetty.rewrite.handler.CompactPathRule;
 import org.eclipse.jetty.rewrite.handler.RewriteHandler;
+import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
-import org.eclipse.jetty.server.NetworkConnector;
+import org.eclipse.jetty.server.LowResourceMonitor;
+import org.eclipse.jetty.server.NetworkConnectionLimit;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.ContextHandler;
-import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
-import org.eclipse.jetty.util.thread.ThreadPool;
+import org.eclipse.jetty.util.thread.Scheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +83,11 @@ public class ServerFactory {
     protected Map<String, FilterFactory> filters;
     protected int maxThreads;
     protected int minThreads;
+    protected ThreadPoolFactory threadPool;
+    protected ByteBufferPoolFactory bufferPool;
+    protected SchedulerFactory scheduler;
+    protected int maxConnections;
+    protected LowResourceMonitorFactory lowResources;
 
     @Deprecated(forRemoval = true)
     protected int maxQueuedRequests;
@@ -87,12 +95,13 @@ public class ServerFactory {
     protected boolean sessions;
     private Map<String, String> params;
     private FolderResourceFactory staticResourceBase;
-    private boolean compression;
+    private CompressionFactory compression;
     private boolean compactPath;
     private CrossOriginHandlerFactory cors;
     // defined as "int" in Jetty, so we should not exceed max int
     private int maxFormContentSize;
     private int maxFormKeys;
+    private int parallelInitThreads;
 
     /**
      * Maintains a mapping between erroneous response's Status Code and the page (URL) which will be used to handle it further.
@@ -126,7 +135,6 @@ public class ServerFactory {
         this.maxQueuedRequests = 1024;
         this.idleThreadTimeout = 60000;
         this.sessions = true;
-        this.compression = true;
     }
 
     /**
@@ -135,19 +143,23 @@ public class ServerFactory {
     public ServerHolder createServerHolder() {
 
         String context = resolveContext();
+        StartupProfiler startupProfiler = new StartupProfiler();
 
-        ThreadPool threadPool = createThreadPool();
-        ServletContextHandler contextHandler = createContextHandler(
+        QueuedThreadPool threadPool = startupProfiler.phase(StartupProfiler.THREAD_POOL_PHASE, this::createThreadPool);
+        ServletContextHandler contextHandler = startupProfiler.phase(StartupProfiler.CONTEXT_HANDLER_PHASE, () -> createContextHandler(
                 context,
                 resolveServlets(),
                 resolveFilters(),
-                resolveListeners());
+                resolveListeners(),
+                startupProfiler));
+
+        contextHandler.addEventListener(startupProfiler.phaseTimer(StartupProfiler.CONTEXT_START_PHASE));
 
         // TODO: Using our own port of deprecated Jetty noop symlink alias checker until we decide how to implement
         //  https://github.com/bootique/bootique-jetty/issues/114
         contextHandler.setAliasChecks(List.of(new AllowSymLinkAliasChecker()));
 
-        Server server = new Server(threadPool);
+        Server server = new Server(threadPool, createScheduler(), createBufferPool());
         server.setStopAtShutdown(true);
 
         // Jetty 10 and 11 implement Graceful class that handles shutdown with timeout. Compared to Jetty 9 the actual
@@ -158,7 +170,9 @@ public class ServerFactory {
 
         // postconfig *after* the handler is associated with the Server. Some extensions like WebSocket require access
         // to the handler's Server
-        postConfigHandler(contextHandler, contextHandlerExtenders);
+        startupProfiler.phase(
+                StartupProfiler.EXTENDERS_PHASE,
+                () -> postConfigHandler(contextHandler, contextHandlerExtenders));
 
         if (maxFormContentSize > 0) {
             server.setAttribute("org.eclipse.jetty.server.Request.maxFormContentSize", maxFormContentSize);
@@ -172,7 +186,7 @@ public class ServerFactory {
 
         createRequestLog(server);
 
-        server.setHandler(wrapContextHandler(contextHandler));
+        server.setHandler(getThreadPool().createRequestLimitHandler(wrapContextHandler(contextHandler)));
 
         Collection<ConnectorFactory> connectorFactories = connectorFactories(server);
         Collection<ConnectorHolder> connectorHolders = new ArrayList<>(2);
@@ -180,20 +194,37 @@ public class ServerFactory {
         if (connectorFactories.isEmpty()) {
             LOGGER.warn("Jetty starts with no connectors configured. Is that expected?");
         } else {
-            connectorFactories.forEach(cf -> {
-                NetworkConnector connector = cf.createConnector(server);
+            startupProfiler.phase(StartupProfiler.CONNECTORS_PHASE, () -> connectorFactories.forEach(cf -> {
+                Connector connector = cf.createConnector(server);
+                ConnectorHolder connectorHolder = new ConnectorHolder(connector);
+
+                // binding to the port happens when the connector is started
+                connector.addEventListener(startupProfiler.artifactTimer(() -> "connector:" + connectorHolder.getUrl(context)));
+
                 server.addConnector(connector);
-                connectorHolders.add(new ConnectorHolder(connector));
-            });
+                connectorHolders.add(connectorHolder);
+            }));
         }
 
-        ServerHolder serverHolder = new ServerHolder(server, context, connectorHolders);
+        installConnectionLimit(server);
+        installLowResourceMonitor(server);
+
+        ServerHolder serverHolder = new ServerHolder(server, context, connectorHolders, startupProfiler);
         server.addEventListener(new ServerLifecycleLogger(serverHolder));
         return shutdownManager.onShutdown(serverHolder, ServerHolder::stop);
     }
 
     protected void postConfigHandler(ServletContextHandler handler, Set<ServletContextHandlerExtender> contextHandlerExtenders) {
-        contextHandlerExtenders.forEach(c -> c.onHandlerInstalled(handler));
+        StartupProfiler startupProfiler = StartupServletContextHandler.startupProfiler(handler);
+
+        contextHandlerExtenders.forEach(c -> {
+            long t0 = System.nanoTime();
+            c.onHandlerInstalled(handler);
+
+            if (startupProfiler != null) {
+                startupProfiler.recordArtifact("extender:" + c.getClass().getName(), t0);
+            }
+        });
     }
 
     protected ServletContextHandler createContextHandler(
@@ -201,6 +232,21 @@ public class ServerFactory {
             Set<MappedServlet> servlets,
             Set<MappedFilter> filters,
             Set<MappedListener> listeners) {
+        return createContextHandler(context, servlets, filters, listeners, new StartupProfiler());
+    }
+
+    /**
+     * Creates a context handler that records the initialization time of its servlets, filters and listeners in the
+     * provided profiler.
+     *
+     * @since 4.0
+     */
+    protected ServletContextHandler createContextHandler(
+            String context,
+            Set<MappedServlet> servlets,
+            Set<MappedFilter> filters,
+            Set<MappedListener> listeners,
+            StartupProfiler startupProfiler) {
 
         int options = 0;
 
@@ -208,7 +254,10 @@ public class ServerFactory {
             options |= ServletContextHandler.SESSIONS;
         }
 
-        ServletContextHandler handler = new ServletContextHandler(options);
+        ServletContextHandler handler = new StartupServletContextHandler(
+                options,
+                startupProfiler,
+                createParallelInitializer());
         handler.setContextPath(context);
 
         if (params != null) {
@@ -219,8 +268,8 @@ public class ServerFactory {
             handler.setBaseResourceAsString(staticResourceBase.getUrl().toExternalForm());
         }
 
-        if (compression) {
-            handler.insertHandler(createGzipHandler());
+        if (isCompression()) {
+            handler.insertHandler(createCompressionHandler());
         }
 
         if (errorPages != null) {
@@ -236,6 +285,10 @@ public class ServerFactory {
         return handler;
     }
 
+    private ParallelInitializer createParallelInitializer() {
+        return parallelInitThreads > 0 ? new ParallelInitializer(parallelInitThreads) : null;
+    }
+
     protected Handler wrapContextHandler(ContextHandler handler) {
         Handler h2 = compactPath ? createCompactPathHandler(handler) : handler;
 
@@ -259,8 +312,11 @@ public class ServerFactory {
     }
 
 
-    protected GzipHandler createGzipHandler() {
-        return new GzipHandler();
+    /**
+     * @since 4.0
+     */
+    protected Handler.Wrapper createCompressionHandler() {
+        return getCompression().createCompressionHandler();
     }
 
     protected void installServlets(ServletContextHandler handler, Set<MappedServlet> servlets) {
@@ -335,7 +391,61 @@ public class ServerFactory {
     protected QueuedThreadPool createThreadPool() {
         QueuedThreadPool threadPool = new QueuedThreadPool(maxThreads, minThreads, idleThreadTimeout);
         threadPool.setName("bootique-http");
-        return threadPool;
+        return getThreadPool().configure(threadPool);
+    }
+
+    /**
+     * Creates a buffer pool shared by all connectors that do not define their own pool.
+     *
+     * @since 4.0
+     */
+    protected ByteBufferPool createBufferPool() {
+        return getBufferPool().createBufferPool();
+    }
+
+    /**
+     * Creates a scheduler shared by the Server and all connectors.
+     *
+     * @since 4.0
+     */
+    protected Scheduler createScheduler() {
+        return getScheduler().createScheduler();
+    }
+
+    /**
+     * Installs a limit of the number of open connections across all network connectors, if "maxConnections" is set.
+     *
+     * @since 4.0
+     */
+    protected void installConnectionLimit(Server server) {
+        if (maxConnections > 0) {
+            server.addBean(createConnectionLimit(server, maxConnections));
+        }
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected NetworkConnectionLimit createConnectionLimit(Server server, int maxConnections) {
+        return new NetworkConnectionLimit(maxConnections, server);
+    }
+
+    /**
+     * Installs a monitor that sheds idle connections when the server is low on resources, if "lowResources" is set.
+     *
+     * @since 4.0
+     */
+    protected void installLowResourceMonitor(Server server) {
+        if (lowResources != null) {
+            server.addBean(lowResources.configure(createLowResourceMonitor(server)));
+        }
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected LowResourceMonitor createLowResourceMonitor(Server server) {
+        return new LowResourceMonitor(server);
     }
 
     protected void createRequestLog(Server server) {
@@ -489,6 +599,91 @@ public class ServerFactory {
         this.maxThreads = maxConnectorThreads;
     }
 
+    /**
+     * @since 4.0
+     */
+    public ThreadPoolFactory getThreadPool() {
+        return threadPool != null ? threadPool : new ThreadPoolFactory();
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Configures the type of threads used for request processing. By default, requests are processed by the \
+            bounded pool of platform threads (see "maxThreads" and "minThreads"). Setting "threadPool.type" to \
+            "virtual" would process blocking requests in virtual threads instead.""")
+    public void setThreadPool(ThreadPoolFactory threadPool) {
+        this.threadPool = threadPool;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public ByteBufferPoolFactory getBufferPool() {
+        return bufferPool != null ? bufferPool : new ByteBufferPoolFactory();
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Configures a pool of network I/O buffers shared by all the connectors. Individual connectors can \
+            override it with their own "bufferPool" configuration.""")
+    public void setBufferPool(ByteBufferPoolFactory bufferPool) {
+        this.bufferPool = bufferPool;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public SchedulerFactory getScheduler() {
+        return scheduler != null ? scheduler : new SchedulerFactory();
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("Configures a scheduler for timed tasks (such as idle timeouts) shared by all the connectors.")
+    public void setScheduler(SchedulerFactory scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Max number of open connections across all network connectors. When reached, the connectors stop \
+            accepting new connections until some of the existing ones are closed. The default is zero, i.e. \
+            no limit.""")
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * @since 4.0
+     */
+    public LowResourceMonitorFactory getLowResources() {
+        return lowResources;
+    }
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Enables monitoring of the server resources (threads, memory). When the server is low on resources, \
+            it shortens the idle timeout of the connections to shed the load.""")
+    public void setLowResources(LowResourceMonitorFactory lowResources) {
+        this.lowResources = lowResources;
+    }
+
     /**
      * @return an initial number of request processing threads in the pool.
      */
@@ -564,20 +759,27 @@ public class ServerFactory {
      * @return whether content compression is supported.
      */
     public boolean isCompression() {
-        return compression;
+        return getCompression().isEnabled();
+    }
+
+    /**
+     * @since 4.0
+     */
+    public CompressionFactory getCompression() {
+        return compression != null ? compression : new CompressionFactory();
     }
 
     /**
-     * Sets whether compression whether gzip compression should be supported.
-     * When true, responses will be compressed if a client requests it via
-     * "Accept-Encoding:" header. Default is true.
+     * Configures compression of responses. When enabled (default), responses will be compressed if a client
+     * requests it via "Accept-Encoding:" header.
      *
-     * @param compression whether gzip compression should be supported.
+     * @param compression compression settings.
      */
-    @BQConfigProperty("A boolean specifying whether gzip compression should be supported. When enabled " +
-            "responses will be compressed if a client indicates it supports compression via " +
-            "\"Accept-Encoding: gzip\" header. Default value is 'true'.")
-    public void setCompression(boolean compression) {
+    @BQConfigProperty("""
+            Configures compression of responses. When enabled (default), responses will be compressed if a \
+            client indicates it supports compression via "Accept-Encoding" header. Can be either a boolean \
+            to simply turn compression on or off, or an object with compression settings.""")
+    public void setCompression(CompressionFactory compression) {
         this.compression = compression;
     }
 
@@ -625,6 +827,21 @@ public class ServerFactory {
         this.maxFormKeys = maxFormKeys;
     }
 
+    /**
+     * Sets the number of threads used to initialize servlets and filters in parallel on startup. The default is 0,
+     * meaning the servlets and filters are initialized sequentially.
+     *
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            Number of threads used to initialize servlets and filters in parallel on startup. All filters are \
+            initialized before the servlets, and the listeners are still called sequentially in their order. \
+            Only use it if the servlets and filters don't depend on each other during initialization. The default \
+            is 0, meaning sequential initialization.""")
+    public void setParallelInitThreads(int parallelInitThreads) {
+        this.parallelInitThreads = parallelInitThreads;
+    }
+
     /**
      * @return a potentially null map of error pages configuration.
      */
@@ -34,11 +34,25 @@ public class ServerHolder {
     private Server server;
     private String context;
     private Collection<ConnectorHolder> connectors;
+    private StartupProfiler startupProfiler;
 
     public ServerHolder(Server server, String context, Collection<ConnectorHolder> connectors) {
+        this(server, context, connectors, new StartupProfiler());
+    }
+
+    /**
+     * @since 4.0
+     */
+    public ServerHolder(
+            Server server,
+            String context,
+            Collection<ConnectorHolder> connectors,
+            StartupProfiler startupProfiler) {
+
         this.server = server;
         this.context = context;
         this.connectors = connectors;
+        this.startupProfiler = startupProfiler;
     }
 
     public void stop() throws Exception {
@@ -49,6 +63,16 @@ public class ServerHolder {
         return server;
     }
 
+    /**
+     * Returns a profiler with the timings of the server creation and startup phases and the individual web artifacts
+     * initialization.
+     *
+     * @since 4.0
+     */
+    public StartupProfiler getStartupProfiler() {
+        return startupProfiler;
+    }
+
     public String getContext() {
         return context;
     }
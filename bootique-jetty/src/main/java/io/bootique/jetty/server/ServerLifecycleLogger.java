@@ -39,13 +39,27 @@ public class ServerLifecycleLogger extends AbstractLifeCycle.AbstractLifeCycleLi
 
     @Override
     public void lifeCycleStarting(LifeCycle event) {
-        t0 = System.currentTimeMillis();
+        t0 = System.nanoTime();
         LOGGER.info("Starting jetty...");
     }
 
     @Override
     public void lifeCycleStarted(LifeCycle event) {
-        long time = System.currentTimeMillis() - t0;
+
+        StartupProfiler startupProfiler = serverHolder.getStartupProfiler();
+        startupProfiler.recordPhase(StartupProfiler.START_PHASE, t0);
+        long time = startupProfiler.getPhase(StartupProfiler.START_PHASE);
+
+        logStarted(time);
+
+        // a single line of JSON, so that it can be extracted from the logs by the tools. Logged at DEBUG level, as
+        // it is too verbose for the default app output
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Jetty startup timings (ms): {}", startupProfiler.toJson());
+        }
+    }
+
+    private void logStarted(long time) {
 
         switch (serverHolder.getConnectorsCount()) {
             case 0:
@@ -20,7 +20,9 @@
 package io.bootique.jetty.server;
 
 import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
 import io.bootique.jetty.MappedServlet;
+import jakarta.servlet.Servlet;
 import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
 import org.eclipse.jetty.ee10.servlet.ServletHolder;
 import org.slf4j.Logger;
@@ -36,6 +38,28 @@ public class ServletFactory extends WebArtifactFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ServletFactory.class);
 
+    private Boolean lazy;
+
+    /**
+     * @since 4.0
+     */
+    @BQConfigProperty("""
+            If true, the servlet is initialized on the first request instead of on startup. Overrides the setting of \
+            the MappedServlet.""")
+    public void setLazy(Boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * Returns whether the servlet should be initialized on the first request instead of on startup. The
+     * configuration setting takes precedence over the MappedServlet setting.
+     *
+     * @since 4.0
+     */
+    public boolean isLazy(MappedServlet mappedServlet) {
+        return lazy != null ? lazy : mappedServlet.isLazy();
+    }
+
     public Optional<ServletHolder> createAndAddJettyServlet(
             ServletContextHandler handler,
             MappedServlet mappedServlet) {
@@ -53,7 +77,7 @@ public class ServletFactory extends WebArtifactFactory {
             return Optional.empty();
         }
 
-        ServletHolder holder = new ServletHolder(mappedServlet.getServlet());
+        ServletHolder holder = createHolder(handler, mappedServlet.getServlet(), isLazy(mappedServlet));
 
         if (mappedServlet.getName() != null) {
             holder.setName(mappedServlet.getName());
@@ -76,4 +100,16 @@ public class ServletFactory extends WebArtifactFactory {
 
         return Optional.of(holder);
     }
+
+    /**
+     * Creates a holder for the servlet. Lazy initialization is only supported by the handlers created by
+     * {@link ServerFactory}. Other handlers would initialize the servlet on startup.
+     *
+     * @since 4.0
+     */
+    protected ServletHolder createHolder(ServletContextHandler handler, Servlet servlet, boolean lazy) {
+        return handler instanceof StartupServletContextHandler sh
+                ? new StartupServletHolder(servlet, sh, lazy)
+                : new ServletHolder(servlet);
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import jakarta.servlet.Filter;
+import org.eclipse.jetty.ee10.servlet.FilterHolder;
+
+/**
+ * A filter holder that records the time spent in the filter initialization and can initialize the filter in
+ * parallel with the other filters.
+ *
+ * @since 4.0
+ */
+class StartupFilterHolder extends FilterHolder {
+
+    private final StartupServletContextHandler handler;
+
+    StartupFilterHolder(Filter filter, StartupServletContextHandler handler) {
+        super(filter);
+        this.handler = handler;
+    }
+
+    @Override
+    public void initialize() throws Exception {
+        handler.initialize(ParallelInitializer.Stage.FILTERS, this::initializeAndProfile);
+    }
+
+    private void initializeAndProfile() throws Exception {
+        long t0 = System.nanoTime();
+        super.initialize();
+        handler.getStartupProfiler().recordArtifact("filter:" + getName(), t0);
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.component.LifeCycle;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Collects the time spent in the phases of Jetty server creation and startup, as well as the time spent initializing
+ * individual web artifacts (servlets, filters, listeners, context handler extenders, connectors). Initialization of
+ * the lazy artifacts that happens on the first request is tracked separately. All times are reported in milliseconds,
+ * in the order they were recorded.
+ *
+ * @since 4.0
+ */
+public class StartupProfiler {
+
+    public static final String THREAD_POOL_PHASE = "threadPool";
+    public static final String CONTEXT_HANDLER_PHASE = "contextHandler";
+    public static final String EXTENDERS_PHASE = "extenders";
+    public static final String CONNECTORS_PHASE = "connectors";
+    public static final String CONTEXT_START_PHASE = "contextStart";
+    public static final String START_PHASE = "start";
+
+    // artifacts may be initialized in parallel, so access to the maps is synchronized
+    private final Map<String, Long> phases;
+    private final Map<String, Long> artifacts;
+    private final Map<String, Long> lazyArtifacts;
+
+    public StartupProfiler() {
+        this.phases = new LinkedHashMap<>();
+        this.artifacts = new LinkedHashMap<>();
+        this.lazyArtifacts = new LinkedHashMap<>();
+    }
+
+    public <T> T phase(String name, Supplier<T> action) {
+        long t0 = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            recordPhase(name, t0);
+        }
+    }
+
+    public void phase(String name, Runnable action) {
+        long t0 = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            recordPhase(name, t0);
+        }
+    }
+
+    /**
+     * Records a phase that started at "startNanos" (as reported by {@link System#nanoTime()}) and ended just now.
+     */
+    public void recordPhase(String name, long startNanos) {
+        long ms = elapsedMs(startNanos);
+        synchronized (phases) {
+
+            // a phase may be repeated when the server is restarted, so keep the latest value
+            phases.put(name, ms);
+        }
+    }
+
+    /**
+     * Records an artifact initialization that started at "startNanos" (as reported by {@link System#nanoTime()}) and
+     * ended just now.
+     */
+    public void recordArtifact(String name, long startNanos) {
+        long ms = elapsedMs(startNanos);
+        synchronized (artifacts) {
+
+            // same-named artifacts (e.g. multiple instances of an unnamed listener class) are summed up
+            artifacts.merge(name, ms, Long::sum);
+        }
+    }
+
+    /**
+     * Registers an artifact whose initialization is deferred until the first request. Its time is reported as -1 until
+     * {@link #recordLazyArtifact(String, long)} is called.
+     */
+    public void deferArtifact(String name) {
+        synchronized (lazyArtifacts) {
+            lazyArtifacts.putIfAbsent(name, -1L);
+        }
+    }
+
+    /**
+     * Records a lazy artifact initialization that started at "startNanos" (as reported by {@link System#nanoTime()})
+     * and ended just now.
+     */
+    public void recordLazyArtifact(String name, long startNanos) {
+        long ms = elapsedMs(startNanos);
+        synchronized (lazyArtifacts) {
+            lazyArtifacts.put(name, ms);
+        }
+    }
+
+    /**
+     * Returns a listener that would record the time between the "starting" and "started" events of a Jetty component
+     * as an artifact initialization time. The artifact name is resolved when the component is started, so it may
+     * include the information only known at that point (e.g. a dynamically assigned port).
+     */
+    public LifeCycle.Listener artifactTimer(Supplier<String> name) {
+        return new AbstractLifeCycle.AbstractLifeCycleListener() {
+
+            private long t0;
+
+            @Override
+            public void lifeCycleStarting(LifeCycle event) {
+                t0 = System.nanoTime();
+            }
+
+            @Override
+            public void lifeCycleStarted(LifeCycle event) {
+                recordArtifact(name.get(), t0);
+            }
+        };
+    }
+
+    /**
+     * Returns a listener that would record the time between the "starting" and "started" events of a Jetty component
+     * as a phase time.
+     */
+    public LifeCycle.Listener phaseTimer(String name) {
+        return new AbstractLifeCycle.AbstractLifeCycleListener() {
+
+            private long t0;
+
+            @Override
+            public void lifeCycleStarting(LifeCycle event) {
+                t0 = System.nanoTime();
+            }
+
+            @Override
+            public void lifeCycleStarted(LifeCycle event) {
+                recordPhase(name, t0);
+            }
+        };
+    }
+
+    /**
+     * Returns the time of a given phase in milliseconds, or -1 if the phase was not recorded (yet).
+     */
+    public long getPhase(String name) {
+        synchronized (phases) {
+            return phases.getOrDefault(name, -1L);
+        }
+    }
+
+    public Map<String, Long> getPhases() {
+        synchronized (phases) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+        }
+    }
+
+    public Map<String, Long> getArtifacts() {
+        synchronized (artifacts) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(artifacts));
+        }
+    }
+
+    /**
+     * Returns the initialization time of a given lazy artifact in milliseconds, or -1 if it was not initialized (yet).
+     */
+    public long getLazyArtifact(String name) {
+        synchronized (lazyArtifacts) {
+            return lazyArtifacts.getOrDefault(name, -1L);
+        }
+    }
+
+    public Map<String, Long> getLazyArtifacts() {
+        synchronized (lazyArtifacts) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(lazyArtifacts));
+        }
+    }
+
+    /**
+     * Returns the collected timings as a JSON object with "phases", "artifacts" and "lazyArtifacts" keys.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"phases\":");
+        appendJson(json, getPhases());
+        json.append(",\"artifacts\":");
+        appendJson(json, getArtifacts());
+        json.append(",\"lazyArtifacts\":");
+        appendJson(json, getLazyArtifacts());
+        return json.append('}').toString();
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static void appendJson(StringBuilder json, Map<String, Long> timings) {
+        json.append('{');
+
+        boolean first = true;
+        for (Map.Entry<String, Long> e : timings.entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+
+            first = false;
+            json.append('"');
+            appendEscaped(json, e.getKey());
+            json.append("\":").append(e.getValue());
+        }
+
+        json.append('}');
+    }
+
+    private static void appendEscaped(StringBuilder json, String string) {
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '"', '\\' -> json.append('\\').append(c);
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
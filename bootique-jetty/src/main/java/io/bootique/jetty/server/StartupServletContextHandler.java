@@ -0,0 +1,88 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
+
+/**
+ * A context handler that records the time spent in each listener "contextInitialized" callback, and optionally
+ * initializes its servlets and filters in parallel.
+ *
+ * @since 4.0
+ */
+class StartupServletContextHandler extends ServletContextHandler {
+
+    private final StartupProfiler startupProfiler;
+    private final ParallelInitializer parallelInitializer;
+
+    StartupServletContextHandler(int options, StartupProfiler startupProfiler, ParallelInitializer parallelInitializer) {
+        super(options);
+        this.startupProfiler = startupProfiler;
+        this.parallelInitializer = parallelInitializer;
+    }
+
+    static StartupProfiler startupProfiler(ServletContextHandler handler) {
+        return handler instanceof StartupServletContextHandler sh ? sh.getStartupProfiler() : null;
+    }
+
+    StartupProfiler getStartupProfiler() {
+        return startupProfiler;
+    }
+
+    /**
+     * Initializes a servlet or a filter either in the calling thread or in parallel with the other artifacts of the
+     * same stage, depending on the handler configuration.
+     */
+    void initialize(ParallelInitializer.Stage stage, ParallelInitializer.InitTask task) throws Exception {
+        // parallel initialization only happens during the context startup
+        if (parallelInitializer != null && parallelInitializer.isStarted()) {
+            parallelInitializer.submit(stage, task);
+        } else {
+            task.run();
+        }
+    }
+
+    @Override
+    protected void startContext() throws Exception {
+
+        if (parallelInitializer == null) {
+            super.startContext();
+            return;
+        }
+
+        // servlets and filters are submitted for initialization by the superclass. Wait for them to finish before
+        // declaring the context started
+        parallelInitializer.start(getContext());
+        try {
+            super.startContext();
+            parallelInitializer.await();
+        } finally {
+            parallelInitializer.stop();
+        }
+    }
+
+    @Override
+    public void callContextInitialized(ServletContextListener l, ServletContextEvent e) {
+        long t0 = System.nanoTime();
+        super.callContextInitialized(l, e);
+        startupProfiler.recordArtifact("listener:" + l.getClass().getName(), t0);
+    }
+}
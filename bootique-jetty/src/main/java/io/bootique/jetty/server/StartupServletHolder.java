@@ -0,0 +1,88 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import jakarta.servlet.Servlet;
+import jakarta.servlet.ServletException;
+import org.eclipse.jetty.ee10.servlet.ServletHolder;
+
+/**
+ * A servlet holder that records the time spent in the servlet initialization and can initialize the servlet in
+ * parallel with the other servlets. A "lazy" servlet is not initialized on startup, but rather on the first request.
+ *
+ * @since 4.0
+ */
+class StartupServletHolder extends ServletHolder {
+
+    private final StartupServletContextHandler handler;
+    private final boolean lazy;
+    private final Object lazyInitLock;
+    private volatile boolean lazyInitialized;
+
+    StartupServletHolder(Servlet servlet, StartupServletContextHandler handler, boolean lazy) {
+        super(servlet);
+        this.handler = handler;
+        this.lazy = lazy;
+        this.lazyInitLock = new Object();
+    }
+
+    @Override
+    public void initialize() throws Exception {
+
+        // Jetty would initialize the servlet on the first request when "getServlet()" is called
+        if (lazy) {
+            handler.getStartupProfiler().deferArtifact("servlet:" + getName());
+            return;
+        }
+
+        handler.initialize(ParallelInitializer.Stage.SERVLETS, this::initializeAndProfile);
+    }
+
+    @Override
+    public Servlet getServlet() throws ServletException {
+
+        if (!lazy || lazyInitialized) {
+            return super.getServlet();
+        }
+
+        // only one of the concurrent first requests initializes the servlet (and measures the time), the rest wait
+        synchronized (lazyInitLock) {
+
+            if (lazyInitialized) {
+                return super.getServlet();
+            }
+
+            long t0 = System.nanoTime();
+            Servlet servlet = super.getServlet();
+
+            if (servlet != null) {
+                lazyInitialized = true;
+                handler.getStartupProfiler().recordLazyArtifact("servlet:" + getName(), t0);
+            }
+
+            return servlet;
+        }
+    }
+
+    private void initializeAndProfile() throws Exception {
+        long t0 = System.nanoTime();
+        super.initialize();
+        handler.getStartupProfiler().recordArtifact("servlet:" + getName(), t0);
+    }
+}
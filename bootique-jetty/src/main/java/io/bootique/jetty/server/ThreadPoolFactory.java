@@ -0,0 +1,168 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.annotation.BQConfig;
+import io.bootique.annotation.BQConfigProperty;
+import io.bootique.value.Duration;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.util.VirtualThreads;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+/**
+ * Configures the type of threads used for request processing and the thread pool behavior under load. By default,
+ * requests are processed by a bounded pool of platform threads. "virtual" type preserves the platform thread pool for
+ * the selectors, acceptors and non-blocking tasks, but dispatches blocking request processing to virtual threads.
+ *
+ * @since 4.0
+ */
+@BQConfig("Configures the type of threads used for request processing and the thread pool behavior under load.")
+public class ThreadPoolFactory {
+
+    private ThreadPoolType type;
+    private int maxVirtualThreads;
+    private int reservedThreads;
+    private int lowThreadsThreshold;
+    private int maxRequests;
+    private Duration retryAfter;
+
+    public ThreadPoolFactory() {
+        this.type = ThreadPoolType.platform;
+        this.maxVirtualThreads = 10_000;
+        this.reservedThreads = -1;
+        this.lowThreadsThreshold = 1;
+    }
+
+    public ThreadPoolType getType() {
+        return type;
+    }
+
+    @BQConfigProperty("""
+            Thread pool type. Either "platform" (default) or "virtual". With "virtual", blocking request processing \
+            (e.g. servlets) is done in virtual threads, while selectors and acceptors stay on the platform threads. \
+            "virtual" requires Java 21 or newer.""")
+    public void setType(ThreadPoolType type) {
+        this.type = type;
+    }
+
+    public int getMaxVirtualThreads() {
+        return maxVirtualThreads;
+    }
+
+    @BQConfigProperty("""
+            Maximum number of virtual threads processing requests concurrently. Only applicable to the "virtual" \
+            thread pool type. Zero or negative value means no limit. The default is 10000.""")
+    public void setMaxVirtualThreads(int maxVirtualThreads) {
+        this.maxVirtualThreads = maxVirtualThreads;
+    }
+
+    public int getReservedThreads() {
+        return reservedThreads;
+    }
+
+    @BQConfigProperty("""
+            Number of threads reserved for executing the non-blocking tasks (like the reads of the already \
+            accepted connections) without queueing. The default is -1, i.e. calculated by Jetty based on the \
+            number of CPU cores.""")
+    public void setReservedThreads(int reservedThreads) {
+        this.reservedThreads = reservedThreads;
+    }
+
+    public int getLowThreadsThreshold() {
+        return lowThreadsThreshold;
+    }
+
+    @BQConfigProperty("""
+            Number of idle threads, below which the pool is considered low on threads. Used by the "lowResources" \
+            monitor. The default is 1.""")
+    public void setLowThreadsThreshold(int lowThreadsThreshold) {
+        this.lowThreadsThreshold = lowThreadsThreshold;
+    }
+
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    @BQConfigProperty("""
+            Max number of requests processed concurrently, including the suspended async requests. Requests over \
+            the limit are rejected with status 503 without processing, so the threads that are still free drain \
+            the backlog quickly. To be effective with blocking request processing, it should be lower than the \
+            number of threads available to the requests. The default is zero, i.e. no limit.""")
+    public void setMaxRequests(int maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @BQConfigProperty("""
+            If set, the requests rejected because of the concurrency limit (see "maxRequests") would \
+            include a "Retry-After" header with this value, telling the clients when to retry.""")
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Applies this factory configuration to the provided thread pool.
+     */
+    public QueuedThreadPool configure(QueuedThreadPool threadPool) {
+        threadPool.setReservedThreads(reservedThreads);
+        threadPool.setLowThreadsThreshold(lowThreadsThreshold);
+        installVirtualThreads(threadPool);
+        return threadPool;
+    }
+
+    /**
+     * Wraps the server handler in a handler rejecting the requests when the number of requests in flight exceeds
+     * "maxRequests". If "maxRequests" is not set, returns the handler unchanged.
+     */
+    public Handler createRequestLimitHandler(Handler handler) {
+        return maxRequests > 0
+                ? new RequestLimitHandler(handler, maxRequests, retryAfter != null ? retryAfter.getDuration() : null)
+                : handler;
+    }
+
+    public boolean isVirtual() {
+        return type == ThreadPoolType.virtual;
+    }
+
+    /**
+     * Creates an executor of virtual threads and installs it in the provided thread pool, if the factory is
+     * configured for "virtual" threads. Otherwise, does nothing and returns null.
+     */
+    public VirtualThreadsExecutor installVirtualThreads(QueuedThreadPool threadPool) {
+
+        if (!isVirtual()) {
+            return null;
+        }
+
+        if (!VirtualThreads.areSupported()) {
+            throw new IllegalStateException("'virtual' thread pool type is configured, but virtual threads are not " +
+                    "supported by the current JVM. Java 21 or newer is required");
+        }
+
+        VirtualThreadsExecutor executor = new VirtualThreadsExecutor(
+                VirtualThreads.getNamedVirtualThreadsExecutor(threadPool.getName() + "-virtual"),
+                maxVirtualThreads);
+
+        threadPool.setVirtualThreadsExecutor(executor);
+        return executor;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+/**
+ * Defines what kind of threads are used by Jetty to process requests.
+ *
+ * @since 4.0
+ */
+public enum ThreadPoolType {
+
+    /**
+     * Requests are processed by the platform threads of the bounded {@link org.eclipse.jetty.util.thread.QueuedThreadPool}.
+     */
+    platform,
+
+    /**
+     * Blocking request processing is done in virtual threads, while selector and acceptor threads (and other
+     * non-blocking tasks) are still running on the platform threads of the {@link org.eclipse.jetty.util.thread.QueuedThreadPool}.
+     * Requires Java 21 or newer.
+     */
+    virtual
+}
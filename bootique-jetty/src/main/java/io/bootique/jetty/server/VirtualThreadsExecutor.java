@@ -0,0 +1,105 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An executor of Jetty request processing tasks in virtual threads. Optionally limits the number of tasks that can
+ * run concurrently. Tasks exceeding the limit are still started in their own virtual threads, but wait for a permit
+ * before running, so the limit never blocks the calling (selector) thread.
+ *
+ * @since 4.0
+ */
+public class VirtualThreadsExecutor implements Executor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadsExecutor.class);
+
+    private final Executor delegate;
+    private final int maxThreads;
+    private final Semaphore permits;
+    private final AtomicInteger activeThreads;
+
+    /**
+     * @param delegate   an executor that starts a new virtual thread per task
+     * @param maxThreads max number of tasks running concurrently. Zero or negative value means no limit.
+     */
+    public VirtualThreadsExecutor(Executor delegate, int maxThreads) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maxThreads = maxThreads;
+        this.permits = maxThreads > 0 ? new Semaphore(maxThreads) : null;
+        this.activeThreads = new AtomicInteger();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(permits != null ? () -> runWithPermit(task) : () -> runUnbounded(task));
+    }
+
+    /**
+     * Returns the number of tasks that are currently running.
+     */
+    public int getActiveThreads() {
+        return activeThreads.get();
+    }
+
+    /**
+     * Returns the max number of concurrently running tasks. Zero or negative value means no limit.
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    private void runUnbounded(Runnable task) {
+        activeThreads.incrementAndGet();
+        try {
+            task.run();
+        } finally {
+            activeThreads.decrementAndGet();
+        }
+    }
+
+    private void runWithPermit(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+
+            // dropping the task would leave its connection hanging, so run it over the limit instead
+            LOGGER.warn("Interrupted while waiting for a permit, running the task over the limit of {}", maxThreads);
+            try {
+                runUnbounded(task);
+            } finally {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+
+        try {
+            runUnbounded(task);
+        } finally {
+            permits.release();
+        }
+    }
+}
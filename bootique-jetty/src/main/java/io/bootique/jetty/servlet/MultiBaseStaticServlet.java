@@ -28,11 +28,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
  * @since 2.0
@@ -41,9 +47,20 @@ public class MultiBaseStaticServlet extends HttpServlet {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MultiBaseStaticServlet.class);
 
+    /**
+     * Precompressed formats used when precompressed content is enabled without specifying the formats explicitly.
+     *
+     * @since 4.0
+     */
+    public static final String DEFAULT_PRECOMPRESSED_FORMATS = "br=.br,zstd=.zst,gzip=.gz";
+
+    static final String GENERATE_PRECOMPRESSED_PARAMETER = "generatePrecompressed";
+
     private final FolderResourceFactory resourceBase;
     // capturing this as a String instead of boolean to allow Jetty apply its own string to boolean parsing
     private final String pathInfoOnly;
+    private final String precompressed;
+    private final String generatePrecompressed;
 
     private DoGetProcessor doGetProcessor;
     private List<StaticServlet> delegates;
@@ -52,8 +69,27 @@ public class MultiBaseStaticServlet extends HttpServlet {
      * @since 3.0
      */
     public MultiBaseStaticServlet(FolderResourceFactory resourceBase, String pathInfoOnly) {
+        this(resourceBase, pathInfoOnly, null, null);
+    }
+
+    /**
+     * @param precompressed         an optional list of precompressed formats (e.g. "br=.br,gzip=.gz"). If set, the
+     *                              servlet would serve a compressed sibling of the requested file (e.g. "app.js.br"),
+     *                              if the client accepts the corresponding encoding.
+     * @param generatePrecompressed if "true", ".gz" siblings of the compressible files in the filesystem resource
+     *                              bases are generated on startup.
+     * @since 4.0
+     */
+    public MultiBaseStaticServlet(
+            FolderResourceFactory resourceBase,
+            String pathInfoOnly,
+            String precompressed,
+            String generatePrecompressed) {
+
         this.resourceBase = resourceBase;
         this.pathInfoOnly = pathInfoOnly;
+        this.precompressed = precompressed;
+        this.generatePrecompressed = generatePrecompressed;
     }
 
     // overriding methods overridden in the Jetty DefaultServlet to proxy them properly
@@ -99,19 +135,45 @@ public class MultiBaseStaticServlet extends HttpServlet {
         resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
     }
 
+    /**
+     * Returns the total size of the static content cached in memory by this servlet.
+     *
+     * @since 4.0
+     */
+    public long getCachedBytes() {
+        List<StaticServlet> delegates = this.delegates;
+        return delegates != null ? delegates.stream().mapToLong(StaticServlet::getCachedBytes).sum() : 0;
+    }
+
+    /**
+     * Returns the number of static files cached in memory by this servlet.
+     *
+     * @since 4.0
+     */
+    public long getCachedFiles() {
+        List<StaticServlet> delegates = this.delegates;
+        return delegates != null ? delegates.stream().mapToLong(StaticServlet::getCachedFiles).sum() : 0;
+    }
+
     protected List<StaticServlet> createDelegates() {
 
         String pathInfoOnly = resolvePathInfoOnly();
+        boolean generatePrecompressed = resolveGeneratePrecompressed();
+        String precompressed = resolvePrecompressed(generatePrecompressed);
         Collection<URL> resourceBases = resolveResourceBases();
 
+        if (generatePrecompressed) {
+            generatePrecompressed(resourceBases);
+        }
+
         // "classpath:" URLs can point to multiple locations. Map them to multiple delegated servlets
         List<StaticServlet> delegates = new ArrayList<>(resourceBases.size());
         for (URL baseUrl : resourceBases) {
-            delegates.add(new StaticServlet(baseUrl.toExternalForm(), pathInfoOnly));
+            delegates.add(new StaticServlet(baseUrl.toExternalForm(), pathInfoOnly, precompressed));
         }
 
         if (delegates.isEmpty()) {
-            return Collections.singletonList(new StaticServlet(null, pathInfoOnly));
+            return Collections.singletonList(new StaticServlet(null, pathInfoOnly, precompressed));
         } else if (delegates.size() > 1) {
             LOGGER.info("Found multiple base URLs for resource base '{}': {}", resourceBase, resourceBases);
         }
@@ -144,6 +206,46 @@ public class MultiBaseStaticServlet extends HttpServlet {
         return paramValue != null ? paramValue : this.pathInfoOnly;
     }
 
+    /**
+     * @since 4.0
+     */
+    protected String resolvePrecompressed(boolean generatePrecompressed) {
+        String paramValue = getInitParameter(StaticServlet.PRECOMPRESSED_PARAMETER);
+        String precompressed = paramValue != null ? paramValue : this.precompressed;
+
+        // generated files are useless unless served, so enable the default formats
+        return precompressed == null && generatePrecompressed ? DEFAULT_PRECOMPRESSED_FORMATS : precompressed;
+    }
+
+    /**
+     * @since 4.0
+     */
+    protected boolean resolveGeneratePrecompressed() {
+        String paramValue = getInitParameter(GENERATE_PRECOMPRESSED_PARAMETER);
+        return Boolean.parseBoolean(paramValue != null ? paramValue : this.generatePrecompressed);
+    }
+
+    /**
+     * Generates compressed siblings of the static files. Only the resource bases located on the filesystem are
+     * processed. Others (e.g. the ones inside jars) are skipped.
+     *
+     * @since 4.0
+     */
+    protected void generatePrecompressed(Collection<URL> resourceBases) {
+        PrecompressedFilesGenerator generator = new PrecompressedFilesGenerator();
+        for (URL baseUrl : resourceBases) {
+            if ("file".equals(baseUrl.getProtocol())) {
+                try {
+                    generator.generate(Path.of(baseUrl.toURI()));
+                } catch (URISyntaxException e) {
+                    LOGGER.warn("Can't generate precompressed files in '{}': {}", baseUrl, e.getMessage());
+                }
+            } else {
+                LOGGER.info("Skipping precompressed files generation for a non-filesystem resource base '{}'", baseUrl);
+            }
+        }
+    }
+
     @FunctionalInterface
     interface DoGetProcessor {
         void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException;
@@ -163,17 +265,77 @@ public class MultiBaseStaticServlet extends HttpServlet {
         }
     }
 
+    /**
+     * Dispatches requests across multiple delegates, remembering which delegate (if any) owns each path, so that
+     * repeated requests are sent straight to the owning delegate instead of trying all of them in turn. Paths not
+     * found in any delegate are only remembered if all the delegates are backed by jars, as the files in filesystem
+     * folders may appear at any moment.
+     */
     static class DoGetMany implements DoGetProcessor {
 
+        // protects against unbounded growth when clients probe random paths
+        static final int MAX_INDEX_SIZE = 10_000;
+
+        // 404 probes are unbounded, so the least recently used not found paths are evicted, instead of filling
+        // the main index
+        static final int MAX_NOT_FOUND_INDEX_SIZE = 1_000;
+
         private final StaticServlet[] delegates;
+        private final Map<String, Integer> index;
+        private final Map<String, Boolean> notFoundIndex;
 
         public DoGetMany(StaticServlet[] delegates) {
+            this(delegates, Stream.of(delegates).allMatch(StaticServlet::isJarBase));
+        }
+
+        DoGetMany(StaticServlet[] delegates, boolean indexNotFound) {
             this.delegates = delegates;
+            this.index = new ConcurrentHashMap<>();
+            this.notFoundIndex = indexNotFound ? createNotFoundIndex() : null;
+        }
+
+        private static Map<String, Boolean> createNotFoundIndex() {
+            return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > MAX_NOT_FOUND_INDEX_SIZE;
+                }
+            });
         }
 
         @Override
         public void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
 
+            String path = indexKey(req);
+            Integer indexed = index.get(path);
+
+            if (indexed != null) {
+                delegates[indexed].doGet(req, resp);
+
+                // the resource is gone from the owning delegate (e.g. deleted from a filesystem folder). Re-resolve
+                if (resp.getStatus() == HttpServletResponse.SC_NOT_FOUND) {
+                    index.remove(path);
+                    resp.reset();
+                    doGetAll(path, req, resp);
+                }
+            } else if (notFoundIndex != null && notFoundIndex.get(path) != null) {
+                // any delegate would produce a proper 404 response
+                delegates[delegates.length - 1].doGet(req, resp);
+            } else {
+                doGetAll(path, req, resp);
+            }
+        }
+
+        int indexSize() {
+            return index.size();
+        }
+
+        int notFoundIndexSize() {
+            return notFoundIndex != null ? notFoundIndex.size() : 0;
+        }
+
+        private void doGetAll(String path, HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+
             for (int i = 0; i < delegates.length; i++) {
 
                 if (i > 0) {
@@ -183,11 +345,32 @@ public class MultiBaseStaticServlet extends HttpServlet {
                 delegates[i].doGet(req, resp);
 
                 // first successfully found resource wins ...
-                if (resp.getStatus() != HttpServletResponse.SC_NOT_FOUND) {
+                int status = resp.getStatus();
+                if (status != HttpServletResponse.SC_NOT_FOUND) {
+
+                    // only index definitive answers, not the errors that may be specific to a given request
+                    if (status < HttpServletResponse.SC_BAD_REQUEST && index.size() < MAX_INDEX_SIZE) {
+                        index.put(path, i);
+                    }
+
                     return;
                 }
             }
 
+            if (notFoundIndex != null) {
+                notFoundIndex.put(path, Boolean.TRUE);
+            }
+        }
+
+        private static String indexKey(HttpServletRequest req) {
+
+            // the full path within the context is unambiguous regardless of the "pathInfoOnly" setting
+            String servletPath = req.getServletPath();
+            String pathInfo = req.getPathInfo();
+
+            return pathInfo != null
+                    ? (servletPath != null ? servletPath + pathInfo : pathInfo)
+                    : (servletPath != null ? servletPath : "");
         }
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.servlet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Generates gzipped siblings (".gz" files) of the compressible static files in a filesystem folder, so that they can
+ * be served as "precompressed" content without spending CPU on compression per request. Existing ".gz" files newer
+ * than their source are left alone.
+ *
+ * @since 4.0
+ */
+class PrecompressedFilesGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrecompressedFilesGenerator.class);
+
+    static final String GZIP_EXTENSION = ".gz";
+
+    // compressing tiny files gives no benefit
+    private static final long MIN_SIZE = 256;
+
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of(
+            "css", "csv", "htm", "html", "js", "json", "map", "mjs", "svg", "txt", "wasm", "xml");
+
+    void generate(Path folder) {
+
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.walk(folder)) {
+            long count = files
+                    .filter(this::isCompressible)
+                    .filter(this::generateFile)
+                    .count();
+
+            LOGGER.info("Generated {} precompressed file(s) in '{}'", count, folder);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error generating precompressed files in " + folder, e);
+        }
+    }
+
+    private boolean isCompressible(Path file) {
+
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        if (dot < 0 || !COMPRESSIBLE_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+
+        try {
+            return Files.isRegularFile(file) && Files.size(file) >= MIN_SIZE;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // returns true if the compressed file was (re)generated
+    private boolean generateFile(Path file) {
+
+        Path gzFile = file.resolveSibling(file.getFileName() + GZIP_EXTENSION);
+
+        try {
+            FileTime sourceTime = Files.getLastModifiedTime(file);
+            if (Files.exists(gzFile) && Files.getLastModifiedTime(gzFile).compareTo(sourceTime) >= 0) {
+                return false;
+            }
+
+            writeAtomically(file, gzFile);
+            return true;
+        } catch (IOException e) {
+            // the folder may be read-only; the file will be compressed on the fly if needed
+            LOGGER.warn("Failed to generate precompressed file '{}': {}", gzFile, e.getMessage());
+            return false;
+        }
+    }
+
+    // Writes to a temp file in the same folder, and then renames it, so that the concurrent requests and the other
+    // app instances sharing the folder never see a partially written file
+    private void writeAtomically(Path file, Path gzFile) throws IOException {
+
+        // not using "Files.createTempFile", as it creates files readable only by the owner
+        Path tmpFile = gzFile.resolveSibling(
+                gzFile.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+
+        try {
+            try (OutputStream out = new BestGzipOutputStream(
+                    Files.newOutputStream(tmpFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+                Files.copy(file, out);
+            }
+
+            Files.move(tmpFile, gzFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tmpFile);
+            } catch (IOException deleteError) {
+                e.addSuppressed(deleteError);
+            }
+
+            throw e;
+        }
+    }
+
+    // since the file is compressed only once, use the best compression level
+    static class BestGzipOutputStream extends GZIPOutputStream {
+
+        BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 8 * 1024);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
@@ -22,8 +22,20 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.eclipse.jetty.ee10.servlet.ResourceServlet;
+import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
+import org.eclipse.jetty.http.content.CachingHttpContentFactory;
+import org.eclipse.jetty.http.content.FileMappingHttpContentFactory;
+import org.eclipse.jetty.http.content.HttpContent;
+import org.eclipse.jetty.http.content.PreCompressedHttpContentFactory;
+import org.eclipse.jetty.http.content.ResourceHttpContentFactory;
+import org.eclipse.jetty.http.content.ValidatingCachingHttpContentFactory;
+import org.eclipse.jetty.http.content.VirtualHttpContentFactory;
+import org.eclipse.jetty.io.ByteBufferPool;
+import org.eclipse.jetty.server.ResourceService;
+import org.eclipse.jetty.util.resource.Resource;
 
 import java.io.IOException;
+import java.time.Duration;
 
 /**
  * @since 2.0
@@ -36,16 +48,36 @@ public class StaticServlet extends ResourceServlet {
     //  We need to support "baseResource".
     static final String RESOURCE_BASE_PARAMETER = "resourceBase";
 
+    // Jetty parameter defining encodings and file extensions of the precompressed file siblings
+    static final String PRECOMPRESSED_PARAMETER = "precompressed";
+
+    // Jetty parameter defining how often the cached content is checked for changes
+    static final String CACHE_VALIDATION_TIME_PARAMETER = "cacheValidationTime";
+
+    // Bootique parameter defining the min size of the files from the filesystem served via memory-mapped buffers
+    static final String MAPPED_FILE_MIN_SIZE_PARAMETER = "mappedFileMinSize";
+
     private final String resourceBase;
     // capturing this as a String instead of boolean to allow Jetty apply its own string to boolean parsing
     private final String pathInfoOnly;
+    private final String precompressed;
+
+    private CachingHttpContentFactory cache;
 
     /**
      * @since 3.0
      */
     public StaticServlet(String resourceBase, String pathInfoOnly) {
+        this(resourceBase, pathInfoOnly, null);
+    }
+
+    /**
+     * @since 4.0
+     */
+    public StaticServlet(String resourceBase, String pathInfoOnly, String precompressed) {
         this.resourceBase = resourceBase;
         this.pathInfoOnly = pathInfoOnly;
+        this.precompressed = precompressed;
     }
 
     @Override
@@ -55,10 +87,119 @@ public class StaticServlet extends ResourceServlet {
         return switch (name) {
             case PATH_INFO_ONLY_PARAMETER -> this.pathInfoOnly;
             case RESOURCE_BASE_PARAMETER -> this.resourceBase;
+            case PRECOMPRESSED_PARAMETER -> this.precompressed;
             default -> super.getInitParameter(name);
         };
     }
 
+    @Override
+    public void init() throws ServletException {
+        super.init();
+
+        int mappedFileMinSize = resolveMappedFileMinSize();
+        if (mappedFileMinSize >= 0) {
+            installFileMapping(mappedFileMinSize);
+        }
+
+        HttpContent.Factory contentFactory = getResourceService().getHttpContentFactory();
+        this.cache = contentFactory instanceof CachingHttpContentFactory c ? c : null;
+    }
+
+    // Jetty only supports file mapping with a fixed 1MB threshold (via "useFileMappedBuffer"), so rebuilding the
+    // content factory chain the same way as ResourceServlet does, with mapping innermost. This way the precompressed
+    // siblings are mapped too, and the cache keeps the mapped buffers instead of being bypassed
+    private void installFileMapping(int minFileSize) {
+
+        ServletContextHandler contextHandler = ServletContextHandler.getServletContextHandler(getServletContext());
+
+        // "null" resourceBase means the context static resource base ("jetty.staticResourceBase")
+        Resource baseResource = resourceBase != null
+                ? contextHandler.newResource(resourceBase)
+                : contextHandler.getBaseResource();
+
+        // mapping only makes sense for the real files. Jar entries can't be mapped
+        if (baseResource == null || !"file".equals(baseResource.getURI().getScheme())) {
+            return;
+        }
+
+        ResourceService resourceService = getResourceService();
+        ByteBufferPool.Sized bufferPool = new ByteBufferPool.Sized(contextHandler.getServer().getByteBufferPool());
+
+        HttpContent.Factory factory = new ResourceHttpContentFactory(
+                baseResource,
+                contextHandler.getMimeTypes(),
+                bufferPool);
+
+        // "-1" keeps the Jetty default max size of a single mapped buffer
+        factory = new FileMappingHttpContentFactory(factory, minFileSize, -1);
+        factory = new VirtualHttpContentFactory(
+                factory,
+                contextHandler.getServer().getDefaultStyleSheet(),
+                "text/css",
+                bufferPool);
+        factory = new PreCompressedHttpContentFactory(factory, resourceService.getPrecompressedFormats());
+
+        // preserve the cache settings resolved by Jetty from the servlet parameters
+        if (resourceService.getHttpContentFactory() instanceof CachingHttpContentFactory jettyCache) {
+            ValidatingCachingHttpContentFactory cache = new ValidatingCachingHttpContentFactory(
+                    factory,
+                    resolveCacheValidationTime(),
+                    bufferPool);
+            cache.setMaxCacheSize(jettyCache.getMaxCacheSize());
+            cache.setMaxCachedFileSize(jettyCache.getMaxCachedFileSize());
+            cache.setMaxCachedFiles(jettyCache.getMaxCachedFiles());
+            factory = cache;
+        }
+
+        resourceService.setHttpContentFactory(factory);
+    }
+
+    // same defaults as in Jetty ResourceServlet
+    private long resolveCacheValidationTime() {
+        String value = getInitParameter(CACHE_VALIDATION_TIME_PARAMETER);
+        long time = value != null ? Long.parseLong(value.trim()) : -2;
+        return time > -2 ? time : Duration.ofSeconds(1).toMillis();
+    }
+
+    /**
+     * Returns the total size of the static content cached in memory, or zero if the caching is not enabled via
+     * "maxCacheSize", "maxCachedFileSize" or "maxCachedFiles" parameters.
+     *
+     * @since 4.0
+     */
+    public long getCachedBytes() {
+        CachingHttpContentFactory cache = getCache();
+        return cache != null ? cache.getCachedSize() : 0;
+    }
+
+    /**
+     * Returns the number of static files cached in memory, or zero if the caching is not enabled.
+     *
+     * @since 4.0
+     */
+    public long getCachedFiles() {
+        CachingHttpContentFactory cache = getCache();
+        return cache != null ? cache.getCachedFiles() : 0;
+    }
+
+    // unlike the filesystem folders, the contents of the jars don't change while the app is running
+    boolean isJarBase() {
+        return resourceBase != null && resourceBase.startsWith("jar:");
+    }
+
+    private CachingHttpContentFactory getCache() {
+        return cache;
+    }
+
+    private int resolveMappedFileMinSize() {
+        String value = getInitParameter(MAPPED_FILE_MIN_SIZE_PARAMETER);
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : -1;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid '" + MAPPED_FILE_MIN_SIZE_PARAMETER + "' value: " + value, e);
+        }
+    }
+
     // making public, so we can call it from MultiBaseDefaultServlet
     @Override
     public void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
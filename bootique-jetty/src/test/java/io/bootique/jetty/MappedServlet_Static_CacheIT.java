@@ -0,0 +1,85 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty;
+
+import io.bootique.jetty.servlet.MultiBaseStaticServlet;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@BQTest
+public class MappedServlet_Static_CacheIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    final WebTarget base = ClientBuilder.newClient().target("http://localhost:8080");
+
+    @Test
+    public void cache() {
+
+        MappedServlet<?> mappedServlet = MappedServlet
+                .ofStatic("/")
+                .resourceBase("classpath:io/bootique/jetty/StaticResourcesIT_docroot_subfolders/")
+                .cache(1024 * 1024, 64 * 1024, 100)
+                .build();
+
+        MultiBaseStaticServlet servlet = (MultiBaseStaticServlet) mappedServlet.getServlet();
+
+        testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addMappedServlet(mappedServlet))
+                .run();
+
+        assertEquals(0, servlet.getCachedFiles());
+
+        for (int i = 0; i < 2; i++) {
+            Response r = base.path("/sub1/other.txt").request().get();
+            assertEquals(Response.Status.OK.getStatusCode(), r.getStatus());
+            assertEquals("other1", r.readEntity(String.class));
+        }
+
+        assertEquals(1, servlet.getCachedFiles());
+        assertEquals("other1".length(), servlet.getCachedBytes());
+    }
+
+    @Test
+    public void noCache() {
+
+        MappedServlet<?> mappedServlet = MappedServlet
+                .ofStatic("/")
+                .resourceBase("classpath:io/bootique/jetty/StaticResourcesIT_docroot_subfolders/")
+                .build();
+
+        MultiBaseStaticServlet servlet = (MultiBaseStaticServlet) mappedServlet.getServlet();
+
+        testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addMappedServlet(mappedServlet))
+                .run();
+
+        Response r = base.path("/sub1/other.txt").request().get();
+        assertEquals(Response.Status.OK.getStatusCode(), r.getStatus());
+        assertEquals(0, servlet.getCachedFiles());
+    }
+}
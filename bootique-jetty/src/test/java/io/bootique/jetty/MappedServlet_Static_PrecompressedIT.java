@@ -0,0 +1,106 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty;
+
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@BQTest
+public class MappedServlet_Static_PrecompressedIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    final WebTarget base = ClientBuilder.newClient().target("http://localhost:8080");
+
+    @Test
+    public void precompressed() throws IOException {
+
+        testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addMappedServlet(MappedServlet
+                        .ofStatic("/")
+                        .resourceBase("classpath:io/bootique/jetty/PrecompressedIT_docroot/")
+                        .precompressed()
+                        .build()))
+                .run();
+
+        Response plain = base.path("/app.js").request().get();
+        assertEquals(Response.Status.OK.getStatusCode(), plain.getStatus());
+        assertNull(plain.getHeaderString("Content-Encoding"));
+        assertEquals("var source = 'plain';", plain.readEntity(String.class));
+
+        // "app.js.gz" has content different from "app.js", so we can tell which file was served
+        Response gzipped = base.path("/app.js").request().acceptEncoding("gzip").get();
+        assertEquals(Response.Status.OK.getStatusCode(), gzipped.getStatus());
+        assertEquals("gzip", gzipped.getHeaderString("Content-Encoding"));
+        assertTrue(gzipped.getHeaderString("Vary").contains("Accept-Encoding"), gzipped.getHeaderString("Vary"));
+        assertEquals("var source = 'gz';", gunzip(gzipped.readEntity(byte[].class)));
+    }
+
+    @Test
+    public void generatePrecompressed(@TempDir Path docroot) throws IOException {
+
+        String css = "body { margin: 0; }\n".repeat(50);
+        Files.writeString(docroot.resolve("style.css"), css);
+
+        testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addMappedServlet(MappedServlet
+                        .ofStatic("/")
+                        .resourceBase(docroot.toString())
+                        .generatePrecompressed()
+                        .build()))
+                .run();
+
+        // the file is written to a temp file first, and then renamed, with no leftovers
+        try (Stream<Path> files = Files.list(docroot)) {
+            assertEquals(Set.of("style.css", "style.css.gz"),
+                    files.map(f -> f.getFileName().toString()).collect(Collectors.toSet()));
+        }
+
+        Response gzipped = base.path("/style.css").request().acceptEncoding("gzip").get();
+        assertEquals(Response.Status.OK.getStatusCode(), gzipped.getStatus());
+        assertEquals("gzip", gzipped.getHeaderString("Content-Encoding"));
+        assertEquals(css, gunzip(gzipped.readEntity(byte[].class)));
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
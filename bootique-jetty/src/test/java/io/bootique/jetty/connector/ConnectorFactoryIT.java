@@ -26,6 +26,11 @@ public class ConnectorFactoryIT {
 
     @Test
     public void polymorphicConfiguration() {
-        PolymorphicConfigurationChecker.test(ConnectorFactory.class, HttpConnectorFactory.class, HttpsConnectorFactory.class);
+        PolymorphicConfigurationChecker.test(
+                ConnectorFactory.class,
+                HttpConnectorFactory.class,
+                HttpsConnectorFactory.class,
+                H2cConnectorFactory.class,
+                UnixSocketConnectorFactory.class);
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.connector;
+
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HttpsConnectorFactoryTest {
+
+    @Test
+    public void buildAlpnConnectionFactory_Http11Default() {
+        HttpsConnectorFactory factory = new HttpsConnectorFactory();
+
+        assertEquals("http/1.1", alpnDefaultProtocol(factory, List.of("h2", "http/1.1")));
+        assertEquals("http/1.1", alpnDefaultProtocol(factory, List.of("http/1.1", "h2")));
+        assertEquals("h2", alpnDefaultProtocol(factory, List.of("h2")));
+    }
+
+    @Test
+    public void setProtocols() {
+        HttpsConnectorFactory factory = new HttpsConnectorFactory();
+        factory.setProtocols(List.of("h2", "http/1.1"));
+        assertEquals(List.of("h2", "http/1.1"), factory.resolveProtocols());
+    }
+
+    @Test
+    public void setProtocols_Unknown() {
+        HttpsConnectorFactory factory = new HttpsConnectorFactory();
+        assertThrows(IllegalArgumentException.class, () -> factory.setProtocols(List.of("h2", "spdy/3")));
+    }
+
+    @Test
+    public void setProtocols_Duplicate() {
+        HttpsConnectorFactory factory = new HttpsConnectorFactory();
+        assertThrows(IllegalArgumentException.class, () -> factory.setProtocols(List.of("h2", "http/1.1", "h2")));
+    }
+
+    private static String alpnDefaultProtocol(HttpsConnectorFactory factory, List<String> protocols) {
+        return ((ALPNServerConnectionFactory) factory.buildAlpnConnectionFactory(protocols)).getDefaultProtocol();
+    }
+}
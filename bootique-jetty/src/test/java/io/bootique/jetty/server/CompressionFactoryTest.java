@@ -0,0 +1,50 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.value.Bytes;
+import org.eclipse.jetty.compression.server.CompressionHandler;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressionFactoryTest {
+
+    @Test
+    public void createCompressionHandler() {
+
+        // "jetty-compression-server" and "jetty-compression-gzip" are on the test classpath
+        assertInstanceOf(CompressionHandler.class, new CompressionFactory().createCompressionHandler());
+    }
+
+    @Test
+    @SuppressWarnings("removal")
+    public void createGzipHandler() {
+        CompressionFactory factory = new CompressionFactory();
+        factory.setMinSize(new Bytes("1kb"));
+        factory.setExcludedPaths(List.of("/x/*"));
+
+        GzipHandler handler = assertInstanceOf(GzipHandler.class, factory.createGzipHandler());
+        assertEquals(1024, handler.getMinGzipSize());
+        assertArrayEquals(new String[]{"/x/*"}, handler.getExcludedPaths());
+    }
+}
@@ -20,7 +20,9 @@
 package io.bootique.jetty.server;
 
 import io.bootique.BQCoreModule;
+import io.bootique.BQRuntime;
 import io.bootique.BQModule;
+import io.bootique.config.ConfigurationFactory;
 import io.bootique.di.Binder;
 import io.bootique.di.Provides;
 import io.bootique.jetty.JettyModule;
@@ -39,14 +41,13 @@ import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.message.GZipEncoder;
 import org.junit.jupiter.api.Test;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 @BQTest
@@ -54,7 +55,6 @@ public class CompressionIT {
 
     private static final String content = readContent();
     private static final String contentLength_Uncompressed = String.valueOf(content.length());
-    private static final String contentLength_Compressed = String.valueOf(compressedSize(content));
 
     static String readContent() {
 
@@ -69,21 +69,6 @@ public class CompressionIT {
         }
     }
 
-    static int compressedSize(String content) {
-
-        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
-
-        try {
-            GZIPOutputStream zipper = new GZIPOutputStream(bytes);
-            zipper.write(content.getBytes(StandardCharsets.UTF_8));
-            zipper.close();
-        } catch (IOException e) {
-            throw new RuntimeException("Unexpected exception compressing content", e);
-        }
-
-        return bytes.size();
-    }
-
     @BQTestTool
     final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
 
@@ -116,7 +101,6 @@ public class CompressionIT {
         assertEquals(Response.Status.OK.getStatusCode(), gzipDeflateResponse.getStatus());
         assertEquals(content, gzipDeflateResponse.readEntity(String.class));
         assertEquals("gzip", gzipDeflateResponse.getHeaderString("Content-Encoding"));
-        assertEquals(contentLength_Compressed, gzipDeflateResponse.getHeaderString("Content-Length"));
     }
 
     @Test
@@ -129,7 +113,30 @@ public class CompressionIT {
         assertEquals(Response.Status.OK.getStatusCode(), gzipResponse.getStatus());
         assertEquals(content, gzipResponse.readEntity(String.class));
         assertEquals("gzip", gzipResponse.getHeaderString("Content-Encoding"));
-        assertEquals(contentLength_Compressed, gzipResponse.getHeaderString("Content-Length"));
+    }
+
+    @Test
+    public void compression_Brotli() {
+        testFactory.app("-s")
+                .module(new ServletModule())
+                .run();
+
+        // "br" is enabled as "jetty-compression-brotli" is on the test classpath
+        Response brResponse = target.path("cs").request().acceptEncoding("br").get();
+        assertEquals(Response.Status.OK.getStatusCode(), brResponse.getStatus());
+        assertEquals("br", brResponse.getHeaderString("Content-Encoding"));
+    }
+
+    @Test
+    public void compression_Zstd() {
+        testFactory.app("-s")
+                .module(new ServletModule())
+                .run();
+
+        // "zstd" is enabled as "jetty-compression-zstandard" is on the test classpath
+        Response zstdResponse = target.path("cs").request().acceptEncoding("zstd").get();
+        assertEquals(Response.Status.OK.getStatusCode(), zstdResponse.getStatus());
+        assertEquals("zstd", zstdResponse.getHeaderString("Content-Encoding"));
     }
 
     @Test
@@ -150,6 +157,47 @@ public class CompressionIT {
         assertNull(gzipDeflateResponse.getHeaderString("Content-Encoding"));
     }
 
+    @Test
+    public void config_Boolean() {
+
+        BQRuntime runtime = testFactory.app("-c", "classpath:io/bootique/jetty/server/NoCompressionIT.yml")
+                .createRuntime();
+
+        ServerFactory factory = runtime.getInstance(ConfigurationFactory.class).config(ServerFactory.class, "jetty");
+        assertFalse(factory.getCompression().isEnabled());
+    }
+
+    @Test
+    public void compression_MinSize() {
+
+        testFactory.app("-s", "-c", "classpath:io/bootique/jetty/server/CompressionIT_MinSize.yml")
+                .module(new ServletModule())
+                .run();
+
+        Response response = target.path("cs").request().acceptEncoding("gzip").get();
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+        assertEquals(content, response.readEntity(String.class));
+        assertNull(response.getHeaderString("Content-Encoding"));
+    }
+
+    @Test
+    public void compression_ExcludedPaths() {
+
+        testFactory.app("-s", "-c", "classpath:io/bootique/jetty/server/CompressionIT_ExcludedPaths.yml")
+                .module(new ServletModule())
+                .run();
+
+        Response excluded = target.path("cs").request().acceptEncoding("gzip").get();
+        assertEquals(Response.Status.OK.getStatusCode(), excluded.getStatus());
+        assertEquals(content, excluded.readEntity(String.class));
+        assertNull(excluded.getHeaderString("Content-Encoding"));
+
+        Response included = target.path("/").request().acceptEncoding("gzip").get();
+        assertEquals(Response.Status.OK.getStatusCode(), included.getStatus());
+        assertEquals(content, included.readEntity(String.class));
+        assertEquals("gzip", included.getHeaderString("Content-Encoding"));
+    }
+
     @Test
     public void compression_Gzip_DefaultServlet() {
         testFactory.app("-s")
@@ -160,8 +208,6 @@ public class CompressionIT {
         assertEquals(Response.Status.OK.getStatusCode(), gzipResponse.getStatus());
         assertEquals(content, gzipResponse.readEntity(String.class));
         assertEquals("gzip", gzipResponse.getHeaderString("Content-Encoding"));
-        // "Content-Length" is no longer passed by the default servlet after an upgrade from 12.1.0 to 12.1.5
-        // assertEquals(contentLength_Compressed, gzipResponse.getHeaderString("Content-Length"));
     }
 
 
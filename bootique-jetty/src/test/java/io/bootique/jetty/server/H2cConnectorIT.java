@@ -0,0 +1,85 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.jetty.JettyModule;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@BQTest
+public class H2cConnectorIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @Test
+    public void http2_Upgrade() throws IOException, InterruptedException {
+        startJetty();
+
+        HttpResponse<String> r = send(HttpClient.Version.HTTP_2);
+        assertEquals(200, r.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, r.version());
+        assertEquals("HTTP/2.0", r.body());
+    }
+
+    @Test
+    public void http11() throws IOException, InterruptedException {
+        startJetty();
+
+        HttpResponse<String> r = send(HttpClient.Version.HTTP_1_1);
+        assertEquals(200, r.statusCode());
+        assertEquals(HttpClient.Version.HTTP_1_1, r.version());
+        assertEquals("HTTP/1.1", r.body());
+    }
+
+    private void startJetty() {
+        testFactory.app("-s", "-c", "classpath:io/bootique/jetty/server/H2cConnectorIT.yml")
+                .module(b -> JettyModule.extend(b).addServlet(ProtocolServlet.class))
+                .run();
+    }
+
+    private HttpResponse<String> send(HttpClient.Version version) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().version(version).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:14001/")).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @WebServlet(urlPatterns = "/*")
+    static class ProtocolServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.getWriter().append(req.getProtocol());
+        }
+    }
+}
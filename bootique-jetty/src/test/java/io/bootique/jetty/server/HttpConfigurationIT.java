@@ -0,0 +1,86 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.jetty.JettyModule;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@BQTest
+public class HttpConfigurationIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    private final Client client = ClientBuilder.newClient();
+
+    @BeforeEach
+    void startJetty() {
+        testFactory.app("-s", "-c", "classpath:io/bootique/jetty/server/HttpConfigurationIT.yml")
+                .module(b -> JettyModule.extend(b).addServlet(SchemeServlet.class))
+                .run();
+    }
+
+    @Test
+    public void defaults() {
+        Response r = client.target("http://localhost:14001/")
+                .request()
+                .header("X-Forwarded-Proto", "https")
+                .get();
+
+        assertEquals(Response.Status.OK.getStatusCode(), r.getStatus());
+        assertEquals("https", r.readEntity(String.class));
+        assertNotNull(r.getHeaderString("Date"));
+    }
+
+    @Test
+    public void noForwardedHeaders_NoDateHeader() {
+        Response r = client.target("http://localhost:14002/")
+                .request()
+                .header("X-Forwarded-Proto", "https")
+                .get();
+
+        assertEquals(Response.Status.OK.getStatusCode(), r.getStatus());
+        assertEquals("http", r.readEntity(String.class));
+        assertNull(r.getHeaderString("Date"));
+    }
+
+    @WebServlet(urlPatterns = "/*")
+    static class SchemeServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.getWriter().append(req.getScheme());
+        }
+    }
+}
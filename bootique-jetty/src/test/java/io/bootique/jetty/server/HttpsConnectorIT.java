@@ -32,14 +32,22 @@ import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.Test;
 
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @BQTest
 public class HttpsConnectorIT {
@@ -71,6 +79,48 @@ public class HttpsConnectorIT {
         assertEquals(OUT_CONTENT + "_true", r1HTTPS.readEntity(String.class));
     }
 
+    @Test
+    public void tlsConnector_H2() throws IOException, InterruptedException, GeneralSecurityException {
+
+        startJetty("classpath:io/bootique/jetty/server/HttpsConnectorIT_H2.yml");
+
+        HttpResponse<String> r = sendWithJdkClient("testkeystore", HttpClient.Version.HTTP_2);
+        assertEquals(200, r.statusCode());
+        assertEquals(HttpClient.Version.HTTP_2, r.version());
+        assertEquals(OUT_CONTENT + "_true", r.body());
+    }
+
+    @Test
+    public void tlsConnector_H2_Http11Client() throws IOException, InterruptedException, GeneralSecurityException {
+
+        startJetty("classpath:io/bootique/jetty/server/HttpsConnectorIT_H2.yml");
+
+        HttpResponse<String> r = sendWithJdkClient("testkeystore", HttpClient.Version.HTTP_1_1);
+        assertEquals(200, r.statusCode());
+        assertEquals(HttpClient.Version.HTTP_1_1, r.version());
+        assertEquals(OUT_CONTENT + "_true", r.body());
+    }
+
+    @Test
+    public void tlsConnector_AltSvc() throws IOException, InterruptedException, GeneralSecurityException {
+
+        startJetty("classpath:io/bootique/jetty/server/HttpsConnectorIT_AltSvc.yml");
+
+        HttpResponse<String> r = sendWithJdkClient("testkeystore", HttpClient.Version.HTTP_1_1);
+        assertEquals(200, r.statusCode());
+        assertEquals("h3=\":14002\"; ma=3600", r.headers().firstValue("Alt-Svc").orElse(null));
+    }
+
+    @Test
+    public void tlsConnector_NoAltSvc() throws IOException, InterruptedException, GeneralSecurityException {
+
+        startJetty("classpath:io/bootique/jetty/server/HttpsConnector.yml");
+
+        HttpResponse<String> r = sendWithJdkClient("testkeystore", HttpClient.Version.HTTP_1_1);
+        assertEquals(200, r.statusCode());
+        assertTrue(r.headers().firstValue("Alt-Svc").isEmpty());
+    }
+
     private void startJetty(String config) {
         testFactory.app("-s", "-c", config)
                 .autoLoadModules()
@@ -90,6 +140,27 @@ public class HttpsConnectorIT {
         return ClientBuilder.newBuilder().trustStore(trustStore).build().target("https://localhost:14001/");
     }
 
+    private HttpResponse<String> sendWithJdkClient(String keystore, HttpClient.Version version)
+            throws IOException, InterruptedException, GeneralSecurityException {
+
+        KeyStore trustStore;
+
+        try (InputStream in = getClass().getResourceAsStream(keystore)) {
+            trustStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            trustStore.load(in, "supersecret".toCharArray());
+        }
+
+        TrustManagerFactory tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        tmf.init(trustStore);
+
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, tmf.getTrustManagers(), null);
+
+        HttpClient client = HttpClient.newBuilder().version(version).sslContext(sslContext).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("https://localhost:14001/")).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
     @WebServlet(urlPatterns = "/*")
     static class ContentServlet extends HttpServlet {
 
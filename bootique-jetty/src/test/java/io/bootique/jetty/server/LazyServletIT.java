@@ -0,0 +1,126 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.BQCoreModule;
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.MappedServlet;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class LazyServletIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    final WebTarget base = ClientBuilder.newClient().target("http://localhost:8080");
+
+    @Test
+    public void lazy() {
+
+        CountingServlet servlet = new CountingServlet();
+        MappedServlet<?> mappedServlet = new MappedServlet<>(servlet, Set.of("/s1"), "s1", Map.of(), true);
+
+        BQRuntime app = testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addMappedServlet(mappedServlet))
+                .createRuntime();
+        app.run();
+
+        StartupProfiler profiler = app.getInstance(ServerHolder.class).getStartupProfiler();
+
+        assertEquals(0, servlet.inits.get());
+        assertEquals(-1, profiler.getLazyArtifact("servlet:s1"));
+
+        // concurrent first requests must result in a single init
+        CompletableFuture<?>[] requests = IntStream.range(0, 5)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    Response r = base.path("/s1").request().get();
+                    assertEquals(Response.Status.OK.getStatusCode(), r.getStatus());
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(requests).join();
+
+        assertEquals(1, servlet.inits.get());
+        assertTrue(profiler.getLazyArtifact("servlet:s1") >= 0);
+    }
+
+    @Test
+    public void lazy_Config() {
+
+        CountingServlet servlet = new CountingServlet();
+
+        testFactory.app("-s")
+                .module(b -> BQCoreModule.extend(b).setProperty("bq.jetty.servlets.s1.lazy", "true"))
+                .module(b -> JettyModule.extend(b).addServlet(servlet, "s1", "/s1"))
+                .run();
+
+        assertEquals(0, servlet.inits.get());
+
+        Response r = base.path("/s1").request().get();
+        assertEquals(Response.Status.OK.getStatusCode(), r.getStatus());
+        assertEquals(1, servlet.inits.get());
+    }
+
+    @Test
+    public void notLazy() {
+
+        CountingServlet servlet = new CountingServlet();
+
+        testFactory.app("-s")
+                .module(b -> JettyModule.extend(b).addServlet(servlet, "s1", "/s1"))
+                .run();
+
+        assertEquals(1, servlet.inits.get());
+    }
+
+    static class CountingServlet extends HttpServlet {
+
+        final AtomicInteger inits = new AtomicInteger();
+
+        @Override
+        public void init() {
+            inits.incrementAndGet();
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            resp.setStatus(200);
+        }
+    }
+}
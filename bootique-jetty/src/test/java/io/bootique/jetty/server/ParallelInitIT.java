@@ -0,0 +1,118 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.BQCoreModule;
+import io.bootique.command.CommandOutcome;
+import io.bootique.jetty.JettyModule;
+import io.bootique.jetty.JettyModuleExtender;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@BQTest
+public class ParallelInitIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @Test
+    public void parallelInit() {
+
+        // each servlet waits for all the others to start initializing. This only succeeds if they run in parallel
+        CountDownLatch latch = new CountDownLatch(3);
+        AtomicInteger concurrentInits = new AtomicInteger();
+
+        testFactory.app("-s")
+                .module(b -> BQCoreModule.extend(b).setProperty("bq.jetty.parallelInitThreads", "3"))
+                .module(b -> {
+                    JettyModuleExtender extender = JettyModule.extend(b);
+                    for (int i = 0; i < 3; i++) {
+                        extender.addServlet(new LatchServlet(latch, concurrentInits), "s" + i, "/s" + i);
+                    }
+                })
+                .run();
+
+        assertEquals(3, concurrentInits.get());
+
+        Response r = ClientBuilder.newClient().target("http://localhost:8080/s1").request().get();
+        assertEquals(Response.Status.OK.getStatusCode(), r.getStatus());
+    }
+
+    @Test
+    public void parallelInit_Failure() {
+
+        CommandOutcome outcome = testFactory.app("-s")
+                .module(b -> BQCoreModule.extend(b).setProperty("bq.jetty.parallelInitThreads", "2"))
+                .module(b -> JettyModule.extend(b)
+                        .addServlet(new HttpServlet() {
+                        }, "s0", "/s0")
+                        .addServlet(new HttpServlet() {
+                            @Override
+                            public void init() throws ServletException {
+                                throw new ServletException("Test init failure");
+                            }
+                        }, "s1", "/s1"))
+                .run();
+
+        assertFalse(outcome.isSuccess());
+    }
+
+    static class LatchServlet extends HttpServlet {
+
+        private final CountDownLatch latch;
+        private final AtomicInteger concurrentInits;
+
+        LatchServlet(CountDownLatch latch, AtomicInteger concurrentInits) {
+            this.latch = latch;
+            this.concurrentInits = concurrentInits;
+        }
+
+        @Override
+        public void init() throws ServletException {
+            latch.countDown();
+            try {
+                if (latch.await(5, TimeUnit.SECONDS)) {
+                    concurrentInits.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                throw new ServletException(e);
+            }
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+            resp.setStatus(200);
+        }
+    }
+}
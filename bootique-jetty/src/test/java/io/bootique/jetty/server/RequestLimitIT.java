@@ -0,0 +1,114 @@
+/**
+ *  Licensed to ObjectStyle LLC under one
+ *  or more contributor license agreements.  See the NOTICE file
+ *  distributed with this work for additional information
+ *  regarding copyright ownership.  The ObjectStyle LLC licenses
+ *  this file to you under the Apache License, Version 2.0 (the
+ *  “License”); you may not use this file except in compliance
+ *  with the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  “AS IS” BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@BQTest
+public class RequestLimitIT {
+
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory();
+
+    @Test
+    public void overLimit() throws Exception {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:io/bootique/jetty/server/RequestLimitIT.yml")
+                .autoLoadModules()
+                .module(b -> JettyModule.extend(b).addServlet(BlockingServlet.class))
+                .createRuntime();
+
+        runtime.run();
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:14001/")).GET().build();
+
+        List<CompletableFuture<HttpResponse<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+
+        // while 2 requests are blocked in the servlet, the rest must be rejected by the free threads
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (futures.stream().filter(CompletableFuture::isDone).count() < 8
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+
+        for (CompletableFuture<HttpResponse<String>> f : futures) {
+            if (f.isDone()) {
+                HttpResponse<String> r = f.get();
+                assertEquals(503, r.statusCode());
+                assertEquals("7", r.headers().firstValue("Retry-After").orElse(null));
+            }
+        }
+
+        assertEquals(8, futures.stream().filter(CompletableFuture::isDone).count(),
+                "Requests over the limit were not rejected");
+
+        RELEASE.countDown();
+
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<String>> f : futures) {
+            if (f.get(10, TimeUnit.SECONDS).statusCode() == 200) {
+                ok++;
+            }
+        }
+        assertEquals(2, ok);
+    }
+
+    @WebServlet(urlPatterns = "/*")
+    static class BlockingServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            try {
+                RELEASE.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            resp.getWriter().append("ok");
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.BQRuntime;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.Server;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@BQTest
+public class SchedulerIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @Test
+    public void sharedScheduler() {
+
+        BQRuntime runtime = testFactory.app("-s", "-c", "classpath:io/bootique/jetty/server/HttpConnectorIT_multipleConnectors.yml")
+                .createRuntime();
+
+        runtime.run();
+
+        Server server = runtime.getInstance(Server.class);
+        assertNotNull(server.getScheduler());
+        assertTrue(server.getScheduler().isStarted());
+
+        Connector[] connectors = server.getConnectors();
+        assertEquals(2, connectors.length);
+        assertSame(server.getScheduler(), connectors[0].getScheduler());
+        assertSame(server.getScheduler(), connectors[1].getScheduler());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServlet;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@BQTest
+public class StartupProfilerIT {
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @Test
+    public void timings() {
+
+        BQRuntime app = testFactory.app("-s")
+                .module(b -> JettyModule.extend(b)
+                        .addServlet(new HttpServlet() {
+                        }, "s1", "/s1")
+                        .addFilter(new TestFilter(), "f1", 0, "/*")
+                        .addListener(new TestListener())
+                        .addContextHandlerExtender(h -> {
+                        }))
+                .createRuntime();
+
+        app.run();
+
+        StartupProfiler profiler = app.getInstance(ServerHolder.class).getStartupProfiler();
+
+        Map<String, Long> phases = profiler.getPhases();
+        assertTrue(phases.containsKey(StartupProfiler.THREAD_POOL_PHASE), phases.toString());
+        assertTrue(phases.containsKey(StartupProfiler.CONTEXT_HANDLER_PHASE), phases.toString());
+        assertTrue(phases.containsKey(StartupProfiler.EXTENDERS_PHASE), phases.toString());
+        assertTrue(phases.containsKey(StartupProfiler.CONNECTORS_PHASE), phases.toString());
+        assertTrue(phases.containsKey(StartupProfiler.CONTEXT_START_PHASE), phases.toString());
+        assertTrue(phases.containsKey(StartupProfiler.START_PHASE), phases.toString());
+
+        Map<String, Long> artifacts = profiler.getArtifacts();
+        assertTrue(artifacts.containsKey("servlet:s1"), artifacts.toString());
+        assertTrue(artifacts.containsKey("filter:f1"), artifacts.toString());
+        assertTrue(artifacts.containsKey("listener:" + TestListener.class.getName()), artifacts.toString());
+        assertTrue(artifacts.keySet().stream().anyMatch(k -> k.startsWith("connector:http://")), artifacts.toString());
+        assertTrue(artifacts.keySet().stream().anyMatch(k -> k.startsWith("extender:")), artifacts.toString());
+    }
+
+    @Test
+    public void toJson() {
+        StartupProfiler profiler = new StartupProfiler();
+        profiler.recordPhase("p1", System.nanoTime());
+        profiler.recordArtifact("servlet:\"x\"", System.nanoTime());
+
+        assertEquals("{\"phases\":{\"p1\":0},\"artifacts\":{\"servlet:\\\"x\\\"\":0},\"lazyArtifacts\":{}}", profiler.toJson());
+    }
+
+    static class TestFilter implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+            chain.doFilter(request, response);
+        }
+    }
+
+    static class TestListener implements ServletContextListener {
+
+        @Override
+        public void contextInitialized(ServletContextEvent sce) {
+        }
+    }
+}
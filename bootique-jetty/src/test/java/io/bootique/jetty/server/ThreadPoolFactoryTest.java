@@ -0,0 +1,58 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.handler.DefaultHandler;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThreadPoolFactoryTest {
+
+    @Test
+    public void configure() {
+        ThreadPoolFactory factory = new ThreadPoolFactory();
+        factory.setReservedThreads(3);
+        factory.setLowThreadsThreshold(5);
+
+        QueuedThreadPool threadPool = factory.configure(new QueuedThreadPool());
+        assertEquals(3, threadPool.getReservedThreads());
+        assertEquals(5, threadPool.getLowThreadsThreshold());
+    }
+
+    @Test
+    public void createRequestLimitHandler_Unbounded() {
+        Handler handler = new DefaultHandler();
+        assertSame(handler, new ThreadPoolFactory().createRequestLimitHandler(handler));
+    }
+
+    @Test
+    public void createRequestLimitHandler() {
+        ThreadPoolFactory factory = new ThreadPoolFactory();
+        factory.setMaxRequests(100);
+
+        Handler handler = new DefaultHandler();
+        Handler wrapper = factory.createRequestLimitHandler(handler);
+        RequestLimitHandler limitHandler = assertInstanceOf(RequestLimitHandler.class, wrapper);
+        assertSame(handler, limitHandler.getHandler());
+        assertEquals(100, limitHandler.getMaxRequests());
+    }
+}
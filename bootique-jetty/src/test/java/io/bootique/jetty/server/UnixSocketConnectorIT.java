@@ -0,0 +1,87 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import io.bootique.BQRuntime;
+import io.bootique.jetty.JettyModule;
+import io.bootique.junit.BQTest;
+import io.bootique.junit.BQTestFactory;
+import io.bootique.junit.BQTestTool;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@BQTest
+public class UnixSocketConnectorIT {
+
+    private static final String SOCKET = "target/UnixSocketConnectorIT.sock";
+
+    @BQTestTool
+    final BQTestFactory testFactory = new BQTestFactory().autoLoadModules();
+
+    @Test
+    public void request() throws IOException {
+        BQRuntime app = testFactory.app("-s", "-c", "classpath:io/bootique/jetty/server/UnixSocketConnectorIT.yml")
+                .module(b -> JettyModule.extend(b).addServlet(ContentServlet.class))
+                .createRuntime();
+        app.run();
+
+        ServerHolder serverHolder = app.getInstance(ServerHolder.class);
+        ConnectorHolder connector = serverHolder.getConnector();
+        assertEquals(-1, connector.getPort());
+        assertEquals("http+unix://target%2FUnixSocketConnectorIT.sock", serverHolder.getUrl());
+
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(Path.of(SOCKET)));
+            channel.write(StandardCharsets.US_ASCII.encode("GET / HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n"));
+
+            StringBuilder response = new StringBuilder();
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                response.append(StandardCharsets.US_ASCII.decode(buffer));
+                buffer.clear();
+            }
+
+            assertTrue(response.toString().startsWith("HTTP/1.1 200"), response.toString());
+            assertTrue(response.toString().endsWith("unix_content"), response.toString());
+        }
+    }
+
+    @WebServlet(urlPatterns = "/*")
+    static class ContentServlet extends HttpServlet {
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            resp.getWriter().append("unix_content");
+        }
+    }
+}
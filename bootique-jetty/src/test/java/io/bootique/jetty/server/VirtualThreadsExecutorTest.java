@@ -0,0 +1,60 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualThreadsExecutorTest {
+
+    @Test
+    public void execute() throws InterruptedException {
+        VirtualThreadsExecutor executor = new VirtualThreadsExecutor(r -> new Thread(r).start(), 1);
+
+        CountDownLatch done = new CountDownLatch(2);
+        executor.execute(done::countDown);
+        executor.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, executor.getMaxThreads());
+    }
+
+    @Test
+    public void execute_InterruptedWhileWaiting() throws InterruptedException {
+
+        // the delegate thread is interrupted before the task tries to get a permit
+        Executor interruptingDelegate = r -> new Thread(() -> {
+            Thread.currentThread().interrupt();
+            r.run();
+        }).start();
+
+        VirtualThreadsExecutor executor = new VirtualThreadsExecutor(interruptingDelegate, 1);
+
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The task was dropped");
+    }
+}
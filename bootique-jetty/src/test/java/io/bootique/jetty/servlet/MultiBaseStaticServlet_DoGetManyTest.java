@@ -0,0 +1,178 @@
+/*
+ * Licensed to ObjectStyle LLC under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ObjectStyle LLC licenses
+ * this file to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.bootique.jetty.servlet;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MultiBaseStaticServlet_DoGetManyTest {
+
+    @Test
+    public void doGet_Indexed() throws Exception {
+        TestDelegate d1 = new TestDelegate(Set.of("/a.txt"));
+        TestDelegate d2 = new TestDelegate(Set.of("/b.txt"));
+        TestDelegate d3 = new TestDelegate(Set.of("/c.txt"));
+
+        MultiBaseStaticServlet.DoGetMany processor = new MultiBaseStaticServlet.DoGetMany(new StaticServlet[]{d1, d2, d3});
+
+        assertEquals(200, doGet(processor, "/c.txt"));
+        assertEquals(1, d1.calls);
+        assertEquals(1, d2.calls);
+        assertEquals(1, d3.calls);
+
+        // the second request must go straight to the owning delegate
+        assertEquals(200, doGet(processor, "/c.txt"));
+        assertEquals(1, d1.calls);
+        assertEquals(1, d2.calls);
+        assertEquals(2, d3.calls);
+
+        assertEquals(1, processor.indexSize());
+    }
+
+    @Test
+    public void doGet_NotFound() throws Exception {
+        TestDelegate d1 = new TestDelegate(Set.of("/a.txt"));
+        TestDelegate d2 = new TestDelegate(Set.of("/b.txt"));
+
+        MultiBaseStaticServlet.DoGetMany processor = new MultiBaseStaticServlet.DoGetMany(new StaticServlet[]{d1, d2}, true);
+
+        assertEquals(404, doGet(processor, "/x.txt"));
+        assertEquals(1, d1.calls);
+        assertEquals(1, d2.calls);
+
+        // negative cache hit costs a single dispatch
+        assertEquals(404, doGet(processor, "/x.txt"));
+        assertEquals(1, d1.calls);
+        assertEquals(2, d2.calls);
+
+        assertEquals(0, processor.indexSize());
+        assertEquals(1, processor.notFoundIndexSize());
+    }
+
+    @Test
+    public void doGet_NotFound_CreatedLater() throws Exception {
+        TestDelegate d1 = new TestDelegate(Set.of("/a.txt"));
+        TestDelegate d2 = new TestDelegate(Set.of("/b.txt"));
+
+        // non-jar delegates, so the not found paths must not be remembered
+        MultiBaseStaticServlet.DoGetMany processor = new MultiBaseStaticServlet.DoGetMany(new StaticServlet[]{d1, d2});
+
+        assertEquals(404, doGet(processor, "/x.txt"));
+        assertEquals(0, processor.notFoundIndexSize());
+
+        d1.paths = Set.of("/a.txt", "/x.txt");
+        assertEquals(200, doGet(processor, "/x.txt"));
+        assertEquals(1, processor.indexSize());
+    }
+
+    @Test
+    public void doGet_NotFound_Bounded() throws Exception {
+        TestDelegate d1 = new TestDelegate(Set.of("/a.txt"));
+        TestDelegate d2 = new TestDelegate(Set.of("/b.txt"));
+
+        MultiBaseStaticServlet.DoGetMany processor = new MultiBaseStaticServlet.DoGetMany(new StaticServlet[]{d1, d2}, true);
+
+        for (int i = 0; i < MultiBaseStaticServlet.DoGetMany.MAX_NOT_FOUND_INDEX_SIZE + 10; i++) {
+            assertEquals(404, doGet(processor, "/x" + i + ".txt"));
+        }
+
+        assertEquals(MultiBaseStaticServlet.DoGetMany.MAX_NOT_FOUND_INDEX_SIZE, processor.notFoundIndexSize());
+
+        // the probes must not prevent indexing the existing files
+        assertEquals(200, doGet(processor, "/b.txt"));
+        assertEquals(1, processor.indexSize());
+    }
+
+    @Test
+    public void doGet_Removed() throws Exception {
+        TestDelegate d1 = new TestDelegate(Set.of("/a.txt"));
+        TestDelegate d2 = new TestDelegate(Set.of("/a.txt"));
+
+        MultiBaseStaticServlet.DoGetMany processor = new MultiBaseStaticServlet.DoGetMany(new StaticServlet[]{d1, d2});
+
+        assertEquals(200, doGet(processor, "/a.txt"));
+        assertEquals(1, d1.calls);
+        assertEquals(0, d2.calls);
+
+        d1.paths = Set.of();
+
+        assertEquals(200, doGet(processor, "/a.txt"));
+        assertEquals(3, d1.calls);
+        assertEquals(1, d2.calls);
+
+        assertEquals(200, doGet(processor, "/a.txt"));
+        assertEquals(3, d1.calls);
+        assertEquals(2, d2.calls);
+    }
+
+    private static int doGet(MultiBaseStaticServlet.DoGetMany processor, String path) throws Exception {
+        int[] status = {200};
+
+        HttpServletRequest request = (HttpServletRequest) Proxy.newProxyInstance(
+                HttpServletRequest.class.getClassLoader(),
+                new Class[]{HttpServletRequest.class},
+                (p, m, args) -> switch (m.getName()) {
+                    case "getServletPath" -> "";
+                    case "getPathInfo" -> path;
+                    default -> null;
+                });
+
+        HttpServletResponse response = (HttpServletResponse) Proxy.newProxyInstance(
+                HttpServletResponse.class.getClassLoader(),
+                new Class[]{HttpServletResponse.class},
+                (p, m, args) -> switch (m.getName()) {
+                    case "setStatus" -> {
+                        status[0] = (Integer) args[0];
+                        yield null;
+                    }
+                    case "reset" -> {
+                        status[0] = 200;
+                        yield null;
+                    }
+                    case "getStatus" -> status[0];
+                    default -> null;
+                });
+
+        processor.doGet(request, response);
+        return status[0];
+    }
+
+    static class TestDelegate extends StaticServlet {
+
+        Set<String> paths;
+        int calls;
+
+        TestDelegate(Set<String> paths) {
+            super(null, null);
+            this.paths = paths;
+        }
+
+        @Override
+        public void doGet(HttpServletRequest request, HttpServletResponse response) {
+            calls++;
+            response.setStatus(paths.contains(request.getPathInfo()) ? 200 : 404);
+        }
+    }
+}
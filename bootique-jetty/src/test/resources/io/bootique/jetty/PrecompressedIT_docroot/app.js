@@ -0,0 +1 @@
+var source = 'plain';
\ No newline at end of file